@@ -0,0 +1,56 @@
+package ec.edu.ups.Estructura.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ec.edu.ups.Estructura.generator.MazeGenerator;
+import ec.edu.ups.Estructura.generator.MazeGenerators;
+import ec.edu.ups.Estructura.models.MazeGrid;
+
+/**
+ * Mide cada algoritmo de {@link MazeGenerators} escribiendo sobre una cuadrícula ya creada,
+ * de modo que solo se cuenta la generación y no la reserva de la cuadrícula. La semilla
+ * cambia en cada invocación para no medir siempre el mismo laberinto.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MazeGeneratorBenchmark {
+
+    @Param({ "Backtracker", "Prim", "Kruskal", "Wilson" })
+    public String generator;
+
+    @Param({ "64", "256", "1024" })
+    public int size;
+
+    private MazeGenerator mazeGenerator;
+    private MazeGrid grid;
+    private long semilla;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        this.mazeGenerator = MazeGenerators.get(this.generator);
+        this.grid = new MazeGrid(this.size, this.size);
+    }
+
+    @Benchmark
+    public MazeGrid generate() {
+        this.mazeGenerator.generate(this.grid, this.semilla++);
+        return this.grid;
+    }
+}
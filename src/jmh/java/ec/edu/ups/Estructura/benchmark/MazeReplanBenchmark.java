@@ -0,0 +1,81 @@
+package ec.edu.ups.Estructura.benchmark;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ec.edu.ups.Estructura.models.MazeGrid;
+import ec.edu.ups.Estructura.models.SolveResult;
+import ec.edu.ups.Estructura.solver.MazeSolver;
+import ec.edu.ups.Estructura.solver.MazeSolvers;
+import ec.edu.ups.Estructura.solver.solverImpl.MazeSolverHPAStar;
+import ec.edu.ups.Estructura.solver.solverImpl.MazeSolverLPAStar;
+
+/**
+ * Mide el caso de la edición interactiva: se cambia un muro al azar y se vuelve a resolver. La
+ * llamada siguiente deshace ese cambio (y vuelve a resolver), así que cada replanificación parte
+ * del laberinto original y la densidad de muros no se aleja del 30%.
+ * Compara el solver incremental {@link MazeSolverLPAStar}, que repara su búsqueda anterior, y
+ * {@link MazeSolverHPAStar}, que solo reconstruye el cluster editado, con los que empiezan de cero
+ * en cada llamada.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MazeReplanBenchmark {
+
+    @Param({ "LPA*", "HPA*", "A*", "Dijkstra" })
+    public String solver;
+
+    @Param({ "256", "1024" })
+    public int size;
+
+    private MazeSolver mazeSolver;
+    private MazeGrid grid;
+    private SplittableRandom random;
+    private int start;
+    private int end;
+    /**
+     * Celda cambiada en la llamada anterior, que la próxima restaura; -1 si no hay ninguna.
+     */
+    private int cambiada = -1;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        // Una instancia propia para que el estado de los solvers incrementales no se mezcle con otras pruebas.
+        this.mazeSolver = MazeSolvers.nuevaInstancia(this.solver);
+        this.grid = MazeSolverBenchmark.construir(MazeSolverBenchmark.ALEATORIO, this.size, 0.3, 20250728L);
+        this.random = new SplittableRandom(42);
+        this.start = 0;
+        this.end = this.grid.size() - 1;
+        this.mazeSolver.getPath(this.grid, this.start, this.end);
+    }
+
+    @Benchmark
+    public SolveResult alternarMuroYResolver() {
+        int celda = this.cambiada;
+        if (celda < 0) {
+            celda = 1 + this.random.nextInt(this.grid.size() - 2);
+            this.cambiada = celda;
+        } else {
+            this.cambiada = -1;
+        }
+        this.grid.setWall(celda, !this.grid.isWall(celda));
+        return this.mazeSolver.getPath(this.grid, this.start, this.end);
+    }
+}
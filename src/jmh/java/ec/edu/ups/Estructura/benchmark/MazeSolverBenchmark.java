@@ -0,0 +1,154 @@
+package ec.edu.ups.Estructura.benchmark;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import ec.edu.ups.Estructura.generator.MazeGenerator;
+import ec.edu.ups.Estructura.generator.MazeGenerators;
+import ec.edu.ups.Estructura.models.Cell;
+import ec.edu.ups.Estructura.models.CellState;
+import ec.edu.ups.Estructura.models.MazeGrid;
+import ec.edu.ups.Estructura.models.SolveResult;
+import ec.edu.ups.Estructura.solver.MazeSolver;
+import ec.edu.ups.Estructura.solver.MazeSolvers;
+import ec.edu.ups.Estructura.solver.SolveSink;
+
+/**
+ * Mide cada algoritmo de {@link MazeSolvers} sobre laberintos de distintos tamaños y
+ * generadores. El laberinto se construye una vez por combinación de parámetros con
+ * una semilla fija, así que todas las implementaciones resuelven exactamente el mismo laberinto.
+ *
+ * Se informan el rendimiento (operaciones por segundo) y el tiempo promedio; el
+ * {@link BenchmarkRunner} añade el perfilador de GC para obtener la tasa de asignación.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MazeSolverBenchmark {
+
+    /**
+     * Semilla de los laberintos generados.
+     */
+    private static final long SEMILLA = 20250728L;
+
+    /**
+     * Nombre del generador de muros al azar.
+     */
+    static final String ALEATORIO = "aleatorio";
+
+    /**
+     * Todos los algoritmos de {@link MazeSolvers}. LPA*, HPA* y "Campo de distancias" conservan su
+     * trabajo entre llamadas, así que aquí miden una consulta repetida sobre el laberinto sin
+     * cambios; {@link MazeReplanBenchmark} mide el caso de un laberinto que se edita.
+     */
+    @Param({ "Recursivo", "Recursivo Completo", "Recursivo Completo BT", "BFS", "BFS Bidireccional",
+            "BFS Paralelo", "DFS", "A*", "JPS", "Dijkstra", "LPA*", "HPA*", "Campo de distancias" })
+    public String solver;
+
+    @Param({ "64", "256", "1024" })
+    public int size;
+
+    /**
+     * "aleatorio-D" pone muros al azar con densidad D; el resto son los nombres de
+     * {@link MazeGenerators}, que producen laberintos perfectos. La densidad va en el nombre para
+     * no repetir con cada densidad los generadores que no la usan.
+     */
+    @Param({ "aleatorio-0.1", "aleatorio-0.3", "Backtracker", "Prim", "Kruskal", "Wilson" })
+    public String generator;
+
+    private MazeSolver mazeSolver;
+    private MazeGrid grid;
+    private int start;
+    private int end;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        this.mazeSolver = MazeSolvers.nuevaInstancia(this.solver);
+        boolean aleatorio = this.generator.startsWith(ALEATORIO + "-");
+        if (aleatorio) {
+            double densidad = Double.parseDouble(this.generator.substring(ALEATORIO.length() + 1));
+            this.grid = construir(ALEATORIO, this.size, densidad, SEMILLA);
+        } else {
+            this.grid = construir(this.generator, this.size, 0.0, SEMILLA);
+        }
+        this.start = 0;
+        // En los laberintos generados la última celda puede ser un muro; se usa la última sala.
+        this.end = aleatorio ? this.grid.size() - 1 : MazeGenerator.ultimaSala(this.grid);
+    }
+
+    /**
+     * Resolución completa: incluye construir las listas de celdas visitadas y del camino.
+     */
+    @Benchmark
+    public SolveResult getPath() {
+        return this.mazeSolver.getPath(this.grid, this.start, this.end);
+    }
+
+    /**
+     * Resolución en modo continuo: las celdas se entregan a un receptor sin guardarlas.
+     */
+    @Benchmark
+    public boolean solve(Blackhole blackhole) {
+        return this.mazeSolver.solve(this.grid, this.start, this.end, new SolveSink() {
+            @Override
+            public void celdaVisitada(int celda) {
+                blackhole.consume(celda);
+            }
+
+            @Override
+            public void celdaDelCamino(int celda) {
+                blackhole.consume(celda);
+            }
+        });
+    }
+
+    /**
+     * Construye el laberinto de la prueba. La cuadrícula se crea a partir de una matriz de celdas
+     * para que los solvers basados en {@link Cell} no tengan que convertirla en cada llamada.
+     * En el laberinto aleatorio las esquinas (0, 0) y (n - 1, n - 1) se dejan abiertas antes de crear
+     * la cuadrícula; en los generados, la celda (0, 0) y la última sala ya lo están.
+     *
+     * @param generador El nombre del generador.
+     * @param n         El número de filas y columnas.
+     * @param densidad  La proporción de muros (solo para el generador aleatorio).
+     * @param semilla   La semilla del generador.
+     * @return La cuadrícula generada.
+     */
+    static MazeGrid construir(String generador, int n, double densidad, long semilla) {
+        if (!ALEATORIO.equals(generador)) {
+            MazeGenerator mazeGenerator = MazeGenerators.get(generador);
+            if (mazeGenerator == null)
+                throw new IllegalArgumentException("Generador desconocido: " + generador);
+            return MazeGrid.fromCells(mazeGenerator.generate(n, n, semilla).toCellMatrix());
+        }
+        SplittableRandom random = new SplittableRandom(semilla);
+        Cell[][] cells = new Cell[n][n];
+        for (int r = 0; r < n; r++) {
+            for (int c = 0; c < n; c++) {
+                cells[r][c] = new Cell(r, c);
+                if (random.nextDouble() < densidad)
+                    cells[r][c].state = CellState.WALL;
+            }
+        }
+        cells[0][0].state = CellState.EMPTY;
+        cells[n - 1][n - 1].state = CellState.EMPTY;
+        return MazeGrid.fromCells(cells);
+    }
+}
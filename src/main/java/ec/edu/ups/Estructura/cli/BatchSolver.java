@@ -0,0 +1,216 @@
+package ec.edu.ups.Estructura.cli;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import ec.edu.ups.Estructura.dao.AlgorithmResultDAO;
+import ec.edu.ups.Estructura.dao.AlgorithmResultDAOCsv;
+import ec.edu.ups.Estructura.dao.MazeDAO;
+import ec.edu.ups.Estructura.models.AlgorithmResult;
+import ec.edu.ups.Estructura.models.ConnectivityIndex;
+import ec.edu.ups.Estructura.models.Maze;
+import ec.edu.ups.Estructura.solver.MazeSolver;
+import ec.edu.ups.Estructura.solver.MazeSolvers;
+import ec.edu.ups.Estructura.solver.SolveSink;
+
+/**
+ * Resuelve sin interfaz gráfica todos los laberintos de un directorio (archivos {@code .txt} o
+ * {@code .mzb}) con los algoritmos elegidos y guarda los resultados en un CSV.
+ *
+ * <pre>
+ * java -cp target/classes ec.edu.ups.Estructura.cli.BatchSolver &lt;directorio&gt;
+ *      [--algoritmos BFS,A*,...] [--salida resultados.csv] [--hilos N]
+ * </pre>
+ *
+ * Los laberintos se procesan de a uno: cada algoritmo es una tarea independiente en un grupo de
+ * tantos hilos como núcleos, así que incluso un único laberinto con varios algoritmos ocupa todos
+ * los núcleos, y mientras tanto se lee el archivo siguiente. En memoria hay a lo sumo dos
+ * laberintos, sin importar cuántos tenga el directorio: los resultados de cada uno se escriben en
+ * cuanto terminan todos sus algoritmos, en el orden de los archivos y de los algoritmos, de modo
+ * que el CSV no depende de qué tarea terminó primero. Los algoritmos sin estado comparten las
+ * instancias de {@link MazeSolvers}; los que guardan estado se crean para cada tarea.
+ *
+ * Antes de resolver se calcula una vez por laberinto un {@link ConnectivityIndex}: si el inicio
+ * y el fin están en componentes distintas, ningún algoritmo se ejecuta y se guarda un resultado
+ * sin camino, sin celdas visitadas y con tiempo cero.
+ *
+ * @author Cristian Moscoso
+ */
+public class BatchSolver {
+    /**
+     * Punto de entrada de la línea de comandos.
+     *
+     * @param args El directorio de laberintos seguido de las opciones.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        if (args.length == 0) {
+            uso();
+            return;
+        }
+        File directorio = new File(args[0]);
+        List<String> algoritmos = new ArrayList<>(MazeSolvers.nombres());
+        String salida = "resultados.csv";
+        int hilos = Runtime.getRuntime().availableProcessors();
+        for (int i = 1; i < args.length; i++) {
+            if (i + 1 >= args.length) {
+                uso();
+                return;
+            }
+            switch (args[i]) {
+                case "--algoritmos":
+                    algoritmos = Arrays.asList(args[++i].split(","));
+                    break;
+                case "--salida":
+                    salida = args[++i];
+                    break;
+                case "--hilos":
+                    hilos = Integer.parseInt(args[++i]);
+                    break;
+                default:
+                    uso();
+                    return;
+            }
+        }
+        for (String algoritmo : algoritmos) {
+            if (!MazeSolvers.nombres().contains(algoritmo)) {
+                System.err.println("Algoritmo desconocido: " + algoritmo + ". Disponibles: " + MazeSolvers.nombres());
+                return;
+            }
+        }
+
+        File[] archivos = directorio.listFiles((dir, nombre) -> nombre.endsWith(MazeDAO.EXTENSION_TEXTO)
+                || nombre.endsWith(MazeDAO.EXTENSION_BINARIA));
+        if (archivos == null) {
+            System.err.println("No se pudo leer el directorio " + directorio);
+            return;
+        }
+        Arrays.sort(archivos);
+
+        AlgorithmResultDAO resultDAO = new AlgorithmResultDAOCsv(salida);
+        resultDAO.clear();
+        long inicio = System.nanoTime();
+        int guardados = ejecutar(archivos, algoritmos, Math.max(1, hilos), resultDAO);
+        System.out.printf("%d resultados de %d laberintos en %.2f s -> %s%n",
+                guardados, archivos.length, (System.nanoTime() - inicio) / 1e9, salida);
+    }
+
+    /**
+     * Lee los laberintos y los resuelve con cada algoritmo en un grupo de hilos.
+     *
+     * @return El número de resultados guardados.
+     */
+    static int ejecutar(File[] archivos, List<String> algoritmos, int hilos, AlgorithmResultDAO resultDAO) throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(hilos);
+        try {
+            int guardados = 0;
+            Future<Maze> siguiente = archivos.length > 0 ? pool.submit(() -> leer(archivos[0])) : null;
+            for (int i = 0; i < archivos.length; i++) {
+                Maze maze;
+                try {
+                    maze = siguiente.get();
+                } catch (ExecutionException executionException) {
+                    maze = null;
+                    System.err.println("Error al leer " + archivos[i] + ": " + executionException.getCause());
+                }
+                // El archivo siguiente se lee mientras se resuelve este.
+                File proximo = i + 1 < archivos.length ? archivos[i + 1] : null;
+                siguiente = proximo != null ? pool.submit(() -> leer(proximo)) : null;
+                if (maze != null)
+                    guardados += resolverTodos(pool, maze, algoritmos, resultDAO);
+            }
+            return guardados;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static Maze leer(File archivo) {
+        return MazeDAO.paraArchivo(archivo.getPath()).load(archivo.getPath());
+    }
+
+    /**
+     * Resuelve un laberinto con todos los algoritmos en paralelo y guarda sus resultados.
+     *
+     * @return El número de resultados guardados.
+     */
+    private static int resolverTodos(ExecutorService pool, Maze maze, List<String> algoritmos, AlgorithmResultDAO resultDAO) throws InterruptedException {
+        // Una consulta de conectividad por laberinto, compartida por todos sus algoritmos.
+        boolean hayCamino = hayCamino(maze);
+        List<Future<AlgorithmResult>> tareas = new ArrayList<>(algoritmos.size());
+        for (String algoritmo : algoritmos)
+            tareas.add(pool.submit(() -> resolver(maze, algoritmo, hayCamino)));
+
+        int guardados = 0;
+        for (Future<AlgorithmResult> tarea : tareas) {
+            AlgorithmResult algorithmResult;
+            try {
+                algorithmResult = tarea.get();
+            } catch (ExecutionException executionException) {
+                System.err.println("Error al resolver: " + executionException.getCause());
+                continue;
+            }
+            if (algorithmResult != null) {
+                resultDAO.save(algorithmResult);
+                guardados++;
+            }
+        }
+        return guardados;
+    }
+
+    /**
+     * @return {@code false} si es seguro que el laberinto no tiene camino entre su inicio y su fin.
+     */
+    static boolean hayCamino(Maze maze) {
+        return maze == null || new ConnectivityIndex(maze.grid).conectadas(maze.inicio, maze.fin);
+    }
+
+    /**
+     * Resuelve un laberinto con un algoritmo, contando las celdas sin guardarlas en listas.
+     *
+     * @param hayCamino Si es {@code false} no se ejecuta el algoritmo.
+     * @return El resultado, o {@code null} si el laberinto no se pudo leer.
+     */
+    static AlgorithmResult resolver(Maze maze, String algoritmo, boolean hayCamino) {
+        if (maze == null)
+            return null;
+        if (!hayCamino)
+            return new AlgorithmResult(maze.nombre, algoritmo, 0, 0, 0L);
+        // Los solvers con estado se crean por tarea: con la instancia compartida el tiempo incluiría
+        // la espera por su bloqueo y las tareas de otros laberintos descartarían su estado.
+        MazeSolver solver = MazeSolvers.nuevaInstancia(algoritmo);
+        Contador contador = new Contador();
+        long l1 = System.nanoTime();
+        solver.solve(maze.grid, maze.inicio, maze.fin, contador);
+        long l2 = System.nanoTime();
+        return new AlgorithmResult(maze.nombre, algoritmo, contador.camino, contador.visitadas, l2 - l1);
+    }
+
+    private static void uso() {
+        System.err.println("Uso: BatchSolver <directorio> [--algoritmos A,B,...] [--salida archivo.csv] [--hilos N]");
+        System.err.println("Algoritmos: " + MazeSolvers.nombres());
+    }
+
+    /**
+     * Receptor que solo cuenta las celdas visitadas y las del camino.
+     */
+    private static class Contador implements SolveSink {
+        int visitadas;
+        int camino;
+
+        @Override
+        public void celdaVisitada(int celda) {
+            this.visitadas++;
+        }
+
+        @Override
+        public void celdaDelCamino(int celda) {
+            this.camino++;
+        }
+    }
+}
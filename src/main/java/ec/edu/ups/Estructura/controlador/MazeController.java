@@ -1,10 +1,12 @@
 package ec.edu.ups.Estructura.controlador;
 import java.awt.Color;
-import javax.swing.JButton;
 
+import ec.edu.ups.Estructura.generator.MazeGenerator;
 import ec.edu.ups.Estructura.models.Cell;
-//import ec.edu.ups.models.CellState;
-import ec.edu.ups.vista.MazePanel;
+import ec.edu.ups.Estructura.models.CellState;
+import ec.edu.ups.Estructura.models.MazeGrid;
+import ec.edu.ups.Estructura.models.Terrain;
+import ec.edu.ups.Estructura.vista.MazePanel;
 
 public class MazeController {
     private final MazePanel panel;
@@ -15,8 +17,13 @@ public class MazeController {
 
     private Mode currentMode = Mode.WALL;
 
+    private Terrain currentTerrain = Terrain.MUD;
+
+    // Mientras un algoritmo lee la cuadrícula en otro hilo, los clics no la editan.
+    private boolean bloqueado;
+
     public enum Mode {
-        START, END, WALL;
+        START, END, WALL, TERRAIN;
     }
 
     public MazeController(MazePanel paramMazePanel) {
@@ -28,7 +35,21 @@ public class MazeController {
         this.currentMode = paramMode;
     }
 
+    public void setTerrain(Terrain paramTerrain) {
+        this.currentTerrain = paramTerrain;
+    }
+
+    public void setBloqueado(boolean paramBoolean) {
+        this.bloqueado = paramBoolean;
+    }
+
+    public boolean isBloqueado() {
+        return this.bloqueado;
+    }
+
     public void onCellClicked(int paramInt1, int paramInt2) {
+        if (this.bloqueado)
+            return;
         switch (this.currentMode) {
             case START:
                 setStartCell(paramInt1, paramInt2);
@@ -39,35 +60,43 @@ public class MazeController {
             case WALL:
                 toggleWall(paramInt1, paramInt2);
                 break;
+            case TERRAIN:
+                setCellTerrain(paramInt1, paramInt2);
+                break;
         }
+        // La edición cambió la versión del laberinto: la capa de distancias se recalcula si está visible.
+        this.panel.actualizarCampo();
     }
 
     public void onCellClickedLegacy(int paramInt1, int paramInt2) {
         Cell cell = this.panel.getCells()[paramInt1][paramInt2];
-        JButton jButton = this.panel.getButton(paramInt1, paramInt2);
         switch (this.currentMode) {
             case START:
                 if (this.startCell != null)
-                    this.panel.getButton(this.startCell.row, this.startCell.col).setBackground(Color.WHITE);
+                    this.panel.pintarCelda(this.startCell.row, this.startCell.col, Color.WHITE);
                 this.startCell = cell;
                 cell.state = CellState.START;
-                jButton.setBackground(Color.GREEN);
+                this.panel.getGrid().setWall(paramInt1, paramInt2, false);
+                this.panel.pintarCelda(paramInt1, paramInt2, Color.GREEN);
                 break;
             case END:
                 if (this.endCell != null)
-                    this.panel.getButton(this.endCell.row, this.endCell.col).setBackground(Color.WHITE);
+                    this.panel.pintarCelda(this.endCell.row, this.endCell.col, Color.WHITE);
                 this.endCell = cell;
                 cell.state = CellState.END;
-                jButton.setBackground(Color.RED);
+                this.panel.getGrid().setWall(paramInt1, paramInt2, false);
+                this.panel.pintarCelda(paramInt1, paramInt2, Color.RED);
                 break;
             case WALL:
                 if (cell.state == CellState.WALL) {
                     cell.state = CellState.EMPTY;
-                    jButton.setBackground(Color.WHITE);
+                    this.panel.getGrid().setWall(paramInt1, paramInt2, false);
+                    this.panel.pintarCelda(paramInt1, paramInt2, Color.WHITE);
                     break;
                 }
                 cell.state = CellState.WALL;
-                jButton.setBackground(Color.BLACK);
+                this.panel.getGrid().setWall(paramInt1, paramInt2, true);
+                this.panel.pintarCelda(paramInt1, paramInt2, Color.BLACK);
                 break;
         }
     }
@@ -76,6 +105,21 @@ public class MazeController {
         this.panel.limpiarCeldasVisitadas();
     }
 
+    public void cargarLaberinto(MazeGrid paramMazeGrid) {
+        // En un laberinto generado el inicio y el fin van en la primera y la última sala.
+        cargarLaberinto(paramMazeGrid, 0, MazeGenerator.ultimaSala(paramMazeGrid));
+    }
+
+    public void cargarLaberinto(MazeGrid paramMazeGrid, int paramInt1, int paramInt2) {
+        // Las celdas de inicio y fin se sobrescriben al cargar.
+        this.startCell = null;
+        this.endCell = null;
+        this.panel.cargarLaberinto(paramMazeGrid);
+        setStartCell(paramMazeGrid.row(paramInt1), paramMazeGrid.col(paramInt1));
+        setEndCell(paramMazeGrid.row(paramInt2), paramMazeGrid.col(paramInt2));
+        this.panel.actualizarCampo();
+    }
+
     public Cell getStartCell() {
         return this.startCell;
     }
@@ -86,36 +130,49 @@ public class MazeController {
 
     public void setEndCell(int paramInt1, int paramInt2) {
         Cell cell = this.panel.getCells()[paramInt1][paramInt2];
-        JButton jButton = this.panel.getButton(paramInt1, paramInt2);
         if (this.endCell != null) {
-            this.panel.getButton(this.endCell.row, this.endCell.col).setBackground(Color.WHITE);
+            this.panel.pintarCelda(this.endCell.row, this.endCell.col, this.panel.colorBase(this.endCell));
             this.endCell.state = CellState.EMPTY;
         }
         this.endCell = cell;
         cell.state = CellState.END;
-        jButton.setBackground(Color.RED);
+        this.panel.getGrid().setWall(paramInt1, paramInt2, false);
+        this.panel.pintarCelda(paramInt1, paramInt2, Color.RED);
     }
 
     public void setStartCell(int paramInt1, int paramInt2) {
         Cell cell = this.panel.getCells()[paramInt1][paramInt2];
-        JButton jButton = this.panel.getButton(paramInt1, paramInt2);
         if (this.startCell != null) {
-            this.panel.getButton(this.startCell.row, this.startCell.col).setBackground(Color.WHITE);
+            this.panel.pintarCelda(this.startCell.row, this.startCell.col, this.panel.colorBase(this.startCell));
             this.startCell.state = CellState.EMPTY;
         }
         this.startCell = cell;
         cell.state = CellState.START;
-        jButton.setBackground(Color.GREEN);
+        this.panel.getGrid().setWall(paramInt1, paramInt2, false);
+        this.panel.pintarCelda(paramInt1, paramInt2, Color.GREEN);
     }
 
     public void toggleWall(int paramInt1, int paramInt2) {
         Cell cell = this.panel.getCells()[paramInt1][paramInt2];
         if (cell.state == CellState.EMPTY) {
             cell.state = CellState.WALL;
-            this.panel.getButton(paramInt1, paramInt2).setBackground(Color.BLACK);
+            this.panel.getGrid().setWall(paramInt1, paramInt2, true);
+            this.panel.pintarCelda(paramInt1, paramInt2, Color.BLACK);
         } else if (cell.state == CellState.WALL) {
             cell.state = CellState.EMPTY;
-            this.panel.getButton(paramInt1, paramInt2).setBackground(Color.WHITE);
+            this.panel.getGrid().setWall(paramInt1, paramInt2, false);
+            this.panel.pintarCelda(paramInt1, paramInt2, this.panel.colorBase(cell));
         }
     }
+
+    public void setCellTerrain(int paramInt1, int paramInt2) {
+        Cell cell = this.panel.getCells()[paramInt1][paramInt2];
+        if (cell.state == CellState.WALL)
+            return;
+        // Volver a pintar el mismo terreno lo devuelve a NORMAL, igual que los muros.
+        cell.terrain = (cell.terrain == this.currentTerrain) ? Terrain.NORMAL : this.currentTerrain;
+        this.panel.getGrid().setCost(this.panel.getGrid().index(paramInt1, paramInt2), cell.terrain.getCost());
+        if (cell.state == CellState.EMPTY)
+            this.panel.pintarCelda(paramInt1, paramInt2, this.panel.colorBase(cell));
+    }
 }
@@ -0,0 +1,118 @@
+package ec.edu.ups.Estructura.dao;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import ec.edu.ups.Estructura.models.AlgorithmResult;
+
+/**
+ * Guarda los resultados en un archivo CSV con encabezado, una fila por laberinto y algoritmo:
+ * {@code maze,algorithm,pathSize,visitedCount,timeNs}.
+ *
+ * A diferencia de {@link AlgorithmResultDAOFile}, {@link #save} no reemplaza resultados
+ * anteriores del mismo algoritmo: solo agrega una fila al final, así que el costo de guardar no
+ * crece con el tamaño del archivo. Los métodos están sincronizados para poder guardar desde
+ * varios hilos.
+ */
+public class AlgorithmResultDAOCsv implements AlgorithmResultDAO {
+    private static final String ENCABEZADO = "maze,algorithm,pathSize,visitedCount,timeNs";
+
+    private final File file;
+
+    public AlgorithmResultDAOCsv(String paramString) {
+        this.file = new File(paramString);
+    }
+
+    public synchronized void save(AlgorithmResult paramAlgorithmResult) {
+        boolean nuevo = !this.file.exists() || this.file.length() == 0;
+        try (FileWriter fileWriter = new FileWriter(this.file, true)) {
+            if (nuevo)
+                fileWriter.write(ENCABEZADO + "\n");
+            fileWriter.write(escapar(paramAlgorithmResult.getMazeName()) + ","
+                    + escapar(paramAlgorithmResult.getAlgorithmName()) + ","
+                    + paramAlgorithmResult.getPathSize() + ","
+                    + paramAlgorithmResult.getVisitedCount() + ","
+                    + paramAlgorithmResult.getTimeNs() + "\n");
+        } catch (IOException iOException) {
+            System.err.println("Error writing result to file: " + iOException.getMessage());
+        }
+    }
+
+    public synchronized List<AlgorithmResult> findAll() {
+        ArrayList<AlgorithmResult> arrayList = new ArrayList<>();
+        if (!this.file.exists())
+            return arrayList;
+        try (BufferedReader bufferedReader = new BufferedReader(new FileReader(this.file))) {
+            String str;
+            while ((str = bufferedReader.readLine()) != null) {
+                if (str.isEmpty() || str.equals(ENCABEZADO))
+                    continue;
+                List<String> campos = separar(str);
+                if (campos.size() == 5) {
+                    arrayList.add(new AlgorithmResult(campos.get(0), campos.get(1),
+                            Integer.parseInt(campos.get(2)), Integer.parseInt(campos.get(3)),
+                            Long.parseLong(campos.get(4))));
+                }
+            }
+        } catch (IOException | NumberFormatException iOException) {
+            System.err.println("Error reading results from file: " + iOException.getMessage());
+        }
+        return arrayList;
+    }
+
+    public synchronized void clear() {
+        try {
+            FileWriter fileWriter = new FileWriter(this.file, false);
+            fileWriter.close();
+        } catch (IOException iOException) {
+            System.err.println("Error al limpiar el archivo: " + iOException.getMessage());
+        }
+    }
+
+    /**
+     * Encierra el valor entre comillas si contiene comas, comillas o saltos de línea.
+     */
+    private static String escapar(String valor) {
+        if (valor == null)
+            return "";
+        if (valor.indexOf(',') < 0 && valor.indexOf('"') < 0 && valor.indexOf('\n') < 0)
+            return valor;
+        return "\"" + valor.replace("\"", "\"\"") + "\"";
+    }
+
+    /**
+     * Separa una línea CSV respetando los campos entre comillas.
+     */
+    private static List<String> separar(String linea) {
+        List<String> campos = new ArrayList<>();
+        StringBuilder actual = new StringBuilder();
+        boolean comillas = false;
+        for (int i = 0; i < linea.length(); i++) {
+            char c = linea.charAt(i);
+            if (comillas) {
+                if (c == '"' && i + 1 < linea.length() && linea.charAt(i + 1) == '"') {
+                    actual.append('"');
+                    i++;
+                } else if (c == '"') {
+                    comillas = false;
+                } else {
+                    actual.append(c);
+                }
+            } else if (c == '"') {
+                comillas = true;
+            } else if (c == ',') {
+                campos.add(actual.toString());
+                actual.setLength(0);
+            } else {
+                actual.append(c);
+            }
+        }
+        campos.add(actual.toString());
+        return campos;
+    }
+}
@@ -17,7 +17,7 @@ public class AlgorithmResultDAOFile implements AlgorithmResultDAO {
         this.file = new File(paramString);
     }
 
-    public void save(AlgorithmResult paramAlgorithmResult) {
+    public synchronized void save(AlgorithmResult paramAlgorithmResult) {
         List<AlgorithmResult> list = findAll();
         boolean bool = false;
         for (byte b = 0; b < list.size(); b++) {
@@ -48,7 +48,7 @@ public class AlgorithmResultDAOFile implements AlgorithmResultDAO {
         }
     }
 
-    public List<AlgorithmResult> findAll() {
+    public synchronized List<AlgorithmResult> findAll() {
         ArrayList<AlgorithmResult> arrayList = new ArrayList();
         if (!this.file.exists())
             return arrayList;
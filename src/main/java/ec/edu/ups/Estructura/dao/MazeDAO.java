@@ -0,0 +1,27 @@
+package ec.edu.ups.Estructura.dao;
+
+import ec.edu.ups.Estructura.models.Maze;
+
+public interface MazeDAO {
+    /**
+     * Extensión de los laberintos en formato binario ({@link MazeDAOBinary}).
+     */
+    String EXTENSION_BINARIA = ".mzb";
+    /**
+     * Extensión de los laberintos en formato de texto ({@link MazeDAOText}).
+     */
+    String EXTENSION_TEXTO = ".txt";
+
+    Maze load(String paramString);
+    void save(Maze paramMaze, String paramString);
+
+    /**
+     * Elige el formato según la extensión del archivo: binario para {@code .mzb}, texto para el resto.
+     *
+     * @param paramString La ruta del archivo.
+     * @return El DAO que lee y escribe ese formato.
+     */
+    static MazeDAO paraArchivo(String paramString) {
+        return paramString.toLowerCase().endsWith(EXTENSION_BINARIA) ? new MazeDAOBinary() : new MazeDAOText();
+    }
+}
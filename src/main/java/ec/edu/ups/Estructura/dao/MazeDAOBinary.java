@@ -0,0 +1,158 @@
+package ec.edu.ups.Estructura.dao;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+import ec.edu.ups.Estructura.models.Maze;
+import ec.edu.ups.Estructura.models.MazeGrid;
+
+/**
+ * Guarda laberintos en un formato binario compacto:
+ * <pre>
+ *   int   magia ("MAZE")
+ *   int   versión
+ *   int   filas, columnas
+ *   int   inicio, fin        (índices planos, -1 si no están definidos)
+ *   int   banderas           (bit 0: hay sección de costos)
+ *   byte  muros[(filas * columnas + 7) / 8]   un bit por celda, 1 = muro
+ *   byte  costos[filas * columnas]            solo si la bandera está activa
+ * </pre>
+ * Todos los enteros van en orden big-endian. Un laberinto de un millón de celdas sin pesos
+ * ocupa 125 KB.
+ *
+ * La lectura mapea el archivo en memoria y decodifica los bits directamente sobre la
+ * cuadrícula; los bytes sin muros (los más comunes en un laberinto abierto) se saltan de ocho
+ * en ocho celdas. La escritura llena un búfer de tamaño fijo y lo vacía en el canal, así que no
+ * reserva memoria proporcional al laberinto.
+ */
+public class MazeDAOBinary implements MazeDAO {
+    /**
+     * Los bytes "MAZE" leídos como entero.
+     */
+    private static final int MAGIA = 0x4D415A45;
+    private static final int VERSION = 1;
+    private static final int BANDERA_COSTOS = 1;
+    private static final int TAM_ENCABEZADO = 7 * Integer.BYTES;
+    private static final int TAM_BUFER = 1 << 16;
+
+    public Maze load(String paramString) {
+        File file = new File(paramString);
+        try (FileChannel fileChannel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long tam = fileChannel.size();
+            if (tam < TAM_ENCABEZADO) {
+                System.err.println("Error reading maze from file: " + file.getName() + " no es un laberinto binario");
+                return null;
+            }
+            MappedByteBuffer buffer = fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, tam);
+            buffer.order(ByteOrder.BIG_ENDIAN);
+            if (buffer.getInt() != MAGIA) {
+                System.err.println("Error reading maze from file: " + file.getName() + " no es un laberinto binario");
+                return null;
+            }
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                System.err.println("Error reading maze from file: versión " + version + " no soportada");
+                return null;
+            }
+            int filas = buffer.getInt();
+            int columnas = buffer.getInt();
+            int inicio = buffer.getInt();
+            int fin = buffer.getInt();
+            int banderas = buffer.getInt();
+            long celdas = (long) filas * columnas;
+            long esperado = TAM_ENCABEZADO + (celdas + 7) / 8 + ((banderas & BANDERA_COSTOS) != 0 ? celdas : 0);
+            if (filas <= 0 || columnas <= 0 || celdas > Integer.MAX_VALUE || tam < esperado
+                    || inicio >= celdas || fin >= celdas) {
+                System.err.println("Error reading maze from file: encabezado inválido en " + file.getName());
+                return null;
+            }
+
+            MazeGrid mazeGrid = new MazeGrid(filas, columnas);
+            int n = (int) celdas;
+            int bytesMuros = (n + 7) / 8;
+            for (int b = 0; b < bytesMuros; b++) {
+                int bits = buffer.get() & 0xFF;
+                if (bits == 0)
+                    continue;
+                int base = b << 3;
+                while (bits != 0) {
+                    int celda = base + Integer.numberOfTrailingZeros(bits);
+                    if (celda < n)
+                        mazeGrid.setWall(celda, true);
+                    bits &= bits - 1;
+                }
+            }
+            if ((banderas & BANDERA_COSTOS) != 0) {
+                for (int i = 0; i < n; i++) {
+                    int costo = buffer.get();
+                    if (costo != 1)
+                        mazeGrid.setCost(i, costo);
+                }
+            }
+
+            if (inicio < 0)
+                inicio = 0;
+            if (fin < 0)
+                fin = n - 1;
+            mazeGrid.setWall(inicio, false);
+            mazeGrid.setWall(fin, false);
+            return new Maze(file.getName(), mazeGrid, inicio, fin);
+        } catch (IOException | IllegalArgumentException exception) {
+            System.err.println("Error reading maze from file: " + exception.getMessage());
+            return null;
+        }
+    }
+
+    public void save(Maze paramMaze, String paramString) {
+        MazeGrid mazeGrid = paramMaze.grid;
+        int n = mazeGrid.size();
+        try (FileChannel fileChannel = FileChannel.open(new File(paramString).toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(TAM_BUFER).order(ByteOrder.BIG_ENDIAN);
+            buffer.putInt(MAGIA)
+                    .putInt(VERSION)
+                    .putInt(mazeGrid.getRows())
+                    .putInt(mazeGrid.getCols())
+                    .putInt(paramMaze.inicio)
+                    .putInt(paramMaze.fin)
+                    .putInt(mazeGrid.isWeighted() ? BANDERA_COSTOS : 0);
+
+            for (int base = 0; base < n; base += 8) {
+                int bits = 0;
+                int limite = Math.min(8, n - base);
+                for (int k = 0; k < limite; k++) {
+                    if (mazeGrid.isWall(base + k))
+                        bits |= 1 << k;
+                }
+                if (!buffer.hasRemaining())
+                    vaciar(buffer, fileChannel);
+                buffer.put((byte) bits);
+            }
+            if (mazeGrid.isWeighted()) {
+                for (int i = 0; i < n; i++) {
+                    if (!buffer.hasRemaining())
+                        vaciar(buffer, fileChannel);
+                    buffer.put((byte) mazeGrid.getCost(i));
+                }
+            }
+            vaciar(buffer, fileChannel);
+        } catch (IOException iOException) {
+            System.err.println("Error writing maze to file: " + iOException.getMessage());
+        }
+    }
+
+    /**
+     * Escribe el contenido del búfer en el canal y lo deja listo para seguir llenándolo.
+     */
+    private static void vaciar(ByteBuffer buffer, FileChannel fileChannel) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining())
+            fileChannel.write(buffer);
+        buffer.clear();
+    }
+}
@@ -0,0 +1,138 @@
+package ec.edu.ups.Estructura.dao;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import ec.edu.ups.Estructura.models.Maze;
+import ec.edu.ups.Estructura.models.MazeGrid;
+import ec.edu.ups.Estructura.models.Terrain;
+
+/**
+ * Guarda laberintos en archivos de texto, una línea por fila y un carácter por celda:
+ * <pre>
+ *   #  muro          .  libre
+ *   S  inicio        E  fin
+ *   m  barro         ~  agua
+ * </pre>
+ * Las líneas vacías se ignoran y todas las demás deben tener el mismo largo. Si falta
+ * {@code S} o {@code E}, se usan la primera y la última celda.
+ *
+ * El archivo se lee completo de una vez y se recorre byte por byte, sin crear una cadena
+ * por línea.
+ */
+public class MazeDAOText implements MazeDAO {
+
+    public Maze load(String paramString) {
+        File file = new File(paramString);
+        byte[] datos;
+        try {
+            datos = Files.readAllBytes(file.toPath());
+        } catch (IOException iOException) {
+            System.err.println("Error reading maze from file: " + iOException.getMessage());
+            return null;
+        }
+
+        // Primera pasada: dimensiones.
+        int filas = 0;
+        int columnas = -1;
+        int largo = 0;
+        for (int i = 0; i <= datos.length; i++) {
+            byte b = i < datos.length ? datos[i] : (byte) '\n';
+            if (b == '\r')
+                continue;
+            if (b != '\n') {
+                largo++;
+                continue;
+            }
+            if (largo > 0) {
+                if (columnas >= 0 && largo != columnas) {
+                    System.err.println("Error reading maze from file: la fila " + (filas + 1) + " de " + file.getName() + " tiene " + largo + " celdas, se esperaban " + columnas);
+                    return null;
+                }
+                columnas = largo;
+                filas++;
+            }
+            largo = 0;
+        }
+        if (filas == 0) {
+            System.err.println("Error reading maze from file: " + file.getName() + " está vacío");
+            return null;
+        }
+
+        // Segunda pasada: contenido.
+        MazeGrid mazeGrid = new MazeGrid(filas, columnas);
+        int inicio = -1;
+        int fin = -1;
+        int celda = 0;
+        for (byte b : datos) {
+            switch (b) {
+                case '\r':
+                case '\n':
+                    continue;
+                case '#':
+                    mazeGrid.setWall(celda, true);
+                    break;
+                case '.':
+                    break;
+                case 'S':
+                    inicio = celda;
+                    break;
+                case 'E':
+                    fin = celda;
+                    break;
+                case 'm':
+                    mazeGrid.setCost(celda, Terrain.MUD.getCost());
+                    break;
+                case '~':
+                    mazeGrid.setCost(celda, Terrain.WATER.getCost());
+                    break;
+                default:
+                    System.err.println("Error reading maze from file: carácter '" + (char) (b & 0xFF) + "' no válido en " + file.getName());
+                    return null;
+            }
+            celda++;
+        }
+        if (inicio < 0)
+            inicio = 0;
+        if (fin < 0)
+            fin = mazeGrid.size() - 1;
+        mazeGrid.setWall(inicio, false);
+        mazeGrid.setWall(fin, false);
+        return new Maze(file.getName(), mazeGrid, inicio, fin);
+    }
+
+    public void save(Maze paramMaze, String paramString) {
+        MazeGrid mazeGrid = paramMaze.grid;
+        int columnas = mazeGrid.getCols();
+        byte[] datos = new byte[mazeGrid.getRows() * (columnas + 1)];
+        int j = 0;
+        for (int i = 0; i < mazeGrid.size(); i++) {
+            datos[j++] = caracter(paramMaze, i);
+            if ((i + 1) % columnas == 0)
+                datos[j++] = '\n';
+        }
+        try {
+            Files.write(new File(paramString).toPath(), datos);
+        } catch (IOException iOException) {
+            System.err.println("Error writing maze to file: " + iOException.getMessage());
+        }
+    }
+
+    private static byte caracter(Maze paramMaze, int celda) {
+        if (celda == paramMaze.inicio)
+            return 'S';
+        if (celda == paramMaze.fin)
+            return 'E';
+        if (paramMaze.grid.isWall(celda))
+            return '#';
+        switch (Terrain.fromCost(paramMaze.grid.getCost(celda))) {
+            case MUD:
+                return 'm';
+            case WATER:
+                return '~';
+            default:
+                return '.';
+        }
+    }
+}
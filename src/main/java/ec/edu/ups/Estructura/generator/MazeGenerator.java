@@ -0,0 +1,49 @@
+package ec.edu.ups.Estructura.generator;
+
+import ec.edu.ups.Estructura.models.MazeGrid;
+
+/**
+ * Define el contrato de los generadores de laberintos.
+ *
+ * Los generadores trabajan sobre una retícula de "salas": las celdas con fila y columna pares.
+ * Todas las salas quedan abiertas y conectadas por un único camino (laberinto perfecto); las
+ * celdas entre dos salas se abren para formar los pasillos y el resto queda como muro. Así la
+ * celda (0, 0) y la última sala ({@link #ultimaSala(MazeGrid)}) siempre son transitables.
+ *
+ * Con la misma semilla y dimensiones, un generador produce siempre el mismo laberinto.
+ *
+ * @author Cristian Moscoso
+ */
+public interface MazeGenerator {
+    /**
+     * Genera un laberinto sobre una cuadrícula existente, reemplazando todos sus muros.
+     *
+     * @param grid La cuadrícula donde se escribe el laberinto.
+     * @param seed La semilla del generador de números aleatorios.
+     */
+    public void generate(MazeGrid grid, long seed);
+
+    /**
+     * Crea una cuadrícula nueva y genera un laberinto en ella.
+     *
+     * @param rows El número de filas.
+     * @param cols El número de columnas.
+     * @param seed La semilla del generador de números aleatorios.
+     * @return La cuadrícula con el laberinto generado.
+     */
+    public default MazeGrid generate(int rows, int cols, long seed) {
+        MazeGrid grid = new MazeGrid(rows, cols);
+        generate(grid, seed);
+        return grid;
+    }
+
+    /**
+     * Obtiene la sala más alejada de la celda (0, 0): la de mayor fila y columna pares.
+     *
+     * @param grid La cuadrícula.
+     * @return El índice plano de esa celda.
+     */
+    public static int ultimaSala(MazeGrid grid) {
+        return grid.index((grid.getRows() - 1) / 2 * 2, (grid.getCols() - 1) / 2 * 2);
+    }
+}
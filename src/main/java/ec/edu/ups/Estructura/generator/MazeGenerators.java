@@ -0,0 +1,48 @@
+package ec.edu.ups.Estructura.generator;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import ec.edu.ups.Estructura.generator.generatorImpl.MazeGeneratorBacktracker;
+import ec.edu.ups.Estructura.generator.generatorImpl.MazeGeneratorKruskal;
+import ec.edu.ups.Estructura.generator.generatorImpl.MazeGeneratorPrim;
+import ec.edu.ups.Estructura.generator.generatorImpl.MazeGeneratorWilson;
+
+/**
+ * Registro de los generadores de laberintos disponibles, por nombre.
+ * Los generadores no guardan estado, así que cada uno tiene una única instancia compartida.
+ *
+ * @author Cristian Moscoso
+ */
+public final class MazeGenerators {
+    private static final Map<String, MazeGenerator> GENERATORS = new LinkedHashMap<>();
+
+    static {
+        GENERATORS.put("Backtracker", new MazeGeneratorBacktracker());
+        GENERATORS.put("Prim", new MazeGeneratorPrim());
+        GENERATORS.put("Kruskal", new MazeGeneratorKruskal());
+        GENERATORS.put("Wilson", new MazeGeneratorWilson());
+    }
+
+    private MazeGenerators() {
+    }
+
+    /**
+     * Obtiene un generador por su nombre.
+     *
+     * @param nombre El nombre del generador (por ejemplo, "Prim").
+     * @return El generador, o {@code null} si no existe.
+     */
+    public static MazeGenerator get(String nombre) {
+        return GENERATORS.get(nombre);
+    }
+
+    /**
+     * @return Los nombres de los generadores registrados, en el orden en que se muestran.
+     */
+    public static Set<String> nombres() {
+        return Collections.unmodifiableSet(GENERATORS.keySet());
+    }
+}
@@ -0,0 +1,61 @@
+package ec.edu.ups.Estructura.generator.generatorImpl;
+
+import java.util.SplittableRandom;
+
+import ec.edu.ups.Estructura.generator.MazeGenerator;
+import ec.edu.ups.Estructura.models.MazeGrid;
+
+/**
+ * `MazeGeneratorBacktracker` implementa la interfaz `MazeGenerator` con el algoritmo de
+ * retroceso recursivo (búsqueda en profundidad aleatoria): desde la sala actual se avanza a
+ * una vecina no visitada elegida al azar y, cuando no quedan, se retrocede.
+ *
+ * La recursión se reemplaza por una pila explícita que solo guarda la dirección por la que se
+ * llegó a cada sala (un byte por nivel): al retroceder basta con moverse en la dirección opuesta.
+ * Produce pasillos largos con pocas bifurcaciones.
+ */
+public class MazeGeneratorBacktracker implements MazeGenerator {
+
+    /**
+     * Genera el laberinto sobre la cuadrícula dada.
+     *
+     * @param grid La cuadrícula donde se escribe el laberinto.
+     * @param seed La semilla del generador de números aleatorios.
+     */
+    @Override
+    public void generate(MazeGrid grid, long seed) {
+        Salas salas = new Salas(grid);
+        int total = salas.total();
+        if (total == 0)
+            return;
+        SplittableRandom random = new SplittableRandom(seed);
+
+        byte[] pila = new byte[total];
+        int[] opciones = new int[4];
+        int tope = 0;
+        int actual = random.nextInt(total);
+        salas.abrir(actual);
+
+        while (true) {
+            // Direcciones hacia salas que aún no forman parte del laberinto.
+            int n = 0;
+            for (int d = 0; d < 4; d++) {
+                int v = salas.vecina(actual, d);
+                if (v >= 0 && !salas.abierta(v))
+                    opciones[n++] = d;
+            }
+            if (n > 0) {
+                int d = opciones[random.nextInt(n)];
+                int siguiente = salas.vecina(actual, d);
+                salas.unir(actual, siguiente);
+                pila[tope++] = (byte) d;
+                actual = siguiente;
+            } else {
+                // Sin salidas: se retrocede por donde se llegó.
+                if (tope == 0)
+                    break;
+                actual = salas.vecina(actual, pila[--tope] ^ 1);
+            }
+        }
+    }
+}
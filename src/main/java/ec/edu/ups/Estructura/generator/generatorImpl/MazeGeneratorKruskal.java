@@ -0,0 +1,88 @@
+package ec.edu.ups.Estructura.generator.generatorImpl;
+
+import java.util.SplittableRandom;
+
+import ec.edu.ups.Estructura.generator.MazeGenerator;
+import ec.edu.ups.Estructura.models.MazeGrid;
+
+/**
+ * `MazeGeneratorKruskal` implementa la interfaz `MazeGenerator` con el algoritmo de Kruskal
+ * aleatorio: se recorren todas las paredes entre salas en orden aleatorio y se abre cada una
+ * que separa dos componentes distintos.
+ *
+ * Las componentes se llevan con una estructura de conjuntos disjuntos (union-find) con
+ * compresión de caminos por mitades y unión por rango. Cada pared se codifica en un entero:
+ * {@code 2 * sala} para la pared derecha de la sala y {@code 2 * sala + 1} para la de abajo.
+ */
+public class MazeGeneratorKruskal implements MazeGenerator {
+
+    /**
+     * Genera el laberinto sobre la cuadrícula dada.
+     *
+     * @param grid La cuadrícula donde se escribe el laberinto.
+     * @param seed La semilla del generador de números aleatorios.
+     */
+    @Override
+    public void generate(MazeGrid grid, long seed) {
+        Salas salas = new Salas(grid);
+        int total = salas.total();
+        if (total == 0)
+            return;
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int s = 0; s < total; s++)
+            salas.abrir(s);
+
+        // Todas las paredes interiores entre salas.
+        int[] paredes = new int[2 * total];
+        int n = 0;
+        for (int s = 0; s < total; s++) {
+            if (salas.vecina(s, Salas.DERECHA) >= 0)
+                paredes[n++] = 2 * s;
+            if (salas.vecina(s, Salas.ABAJO) >= 0)
+                paredes[n++] = 2 * s + 1;
+        }
+        // Mezcla de Fisher-Yates.
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = paredes[i];
+            paredes[i] = paredes[j];
+            paredes[j] = tmp;
+        }
+
+        int[] padre = new int[total];
+        byte[] rango = new byte[total];
+        for (int s = 0; s < total; s++)
+            padre[s] = s;
+
+        int uniones = 0;
+        for (int i = 0; i < n && uniones < total - 1; i++) {
+            int a = paredes[i] >>> 1;
+            int b = salas.vecina(a, (paredes[i] & 1) == 0 ? Salas.DERECHA : Salas.ABAJO);
+            int ra = raiz(padre, a);
+            int rb = raiz(padre, b);
+            if (ra == rb)
+                continue;
+            if (rango[ra] < rango[rb]) {
+                padre[ra] = rb;
+            } else if (rango[ra] > rango[rb]) {
+                padre[rb] = ra;
+            } else {
+                padre[rb] = ra;
+                rango[ra]++;
+            }
+            salas.unir(a, b);
+            uniones++;
+        }
+    }
+
+    /**
+     * Busca el representante del conjunto de {@code x}, acortando el camino por mitades.
+     */
+    private static int raiz(int[] padre, int x) {
+        while (padre[x] != x) {
+            padre[x] = padre[padre[x]];
+            x = padre[x];
+        }
+        return x;
+    }
+}
@@ -0,0 +1,73 @@
+package ec.edu.ups.Estructura.generator.generatorImpl;
+
+import java.util.BitSet;
+import java.util.SplittableRandom;
+
+import ec.edu.ups.Estructura.generator.MazeGenerator;
+import ec.edu.ups.Estructura.models.MazeGrid;
+
+/**
+ * `MazeGeneratorPrim` implementa la interfaz `MazeGenerator` con el algoritmo de Prim aleatorio:
+ * se mantiene una frontera de salas vecinas al laberinto, se toma una al azar y se une con una
+ * de sus vecinas que ya forman parte de él.
+ *
+ * La frontera es un arreglo de enteros del que se extrae intercambiando con el último elemento,
+ * así que cada paso es O(1). Produce laberintos con muchas ramas cortas.
+ */
+public class MazeGeneratorPrim implements MazeGenerator {
+
+    /**
+     * Genera el laberinto sobre la cuadrícula dada.
+     *
+     * @param grid La cuadrícula donde se escribe el laberinto.
+     * @param seed La semilla del generador de números aleatorios.
+     */
+    @Override
+    public void generate(MazeGrid grid, long seed) {
+        Salas salas = new Salas(grid);
+        int total = salas.total();
+        if (total == 0)
+            return;
+        SplittableRandom random = new SplittableRandom(seed);
+
+        int[] frontera = new int[total];
+        BitSet enFrontera = new BitSet(total);
+        int[] opciones = new int[4];
+
+        int inicio = random.nextInt(total);
+        salas.abrir(inicio);
+        int n = agregarVecinas(salas, inicio, frontera, 0, enFrontera);
+
+        while (n > 0) {
+            int i = random.nextInt(n);
+            int sala = frontera[i];
+            frontera[i] = frontera[--n];
+
+            // Se une con una vecina que ya forma parte del laberinto (siempre hay al menos una).
+            int k = 0;
+            for (int d = 0; d < 4; d++) {
+                int v = salas.vecina(sala, d);
+                if (v >= 0 && salas.abierta(v))
+                    opciones[k++] = v;
+            }
+            salas.unir(sala, opciones[random.nextInt(k)]);
+            n = agregarVecinas(salas, sala, frontera, n, enFrontera);
+        }
+    }
+
+    /**
+     * Añade a la frontera las vecinas de {@code sala} que no forman parte del laberinto ni están ya en ella.
+     *
+     * @return El nuevo tamaño de la frontera.
+     */
+    private static int agregarVecinas(Salas salas, int sala, int[] frontera, int n, BitSet enFrontera) {
+        for (int d = 0; d < 4; d++) {
+            int v = salas.vecina(sala, d);
+            if (v >= 0 && !salas.abierta(v) && !enFrontera.get(v)) {
+                enFrontera.set(v);
+                frontera[n++] = v;
+            }
+        }
+        return n;
+    }
+}
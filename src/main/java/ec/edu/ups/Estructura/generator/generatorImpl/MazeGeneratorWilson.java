@@ -0,0 +1,67 @@
+package ec.edu.ups.Estructura.generator.generatorImpl;
+
+import java.util.SplittableRandom;
+
+import ec.edu.ups.Estructura.generator.MazeGenerator;
+import ec.edu.ups.Estructura.models.MazeGrid;
+
+/**
+ * `MazeGeneratorWilson` implementa la interfaz `MazeGenerator` con el algoritmo de Wilson:
+ * desde cada sala que aún no está en el laberinto se hace una caminata aleatoria hasta tocarlo
+ * y se añade la caminata sin sus ciclos. El resultado es un árbol de expansión uniforme, sin
+ * el sesgo de pasillos largos o ramas cortas de los otros generadores.
+ *
+ * Los ciclos se borran sin listas: durante la caminata solo se recuerda, por sala, la última
+ * dirección por la que se salió de ella, y al repetir la caminata siguiendo esas direcciones
+ * se obtiene directamente el camino sin ciclos. Las primeras caminatas son largas porque el
+ * laberinto es pequeño; a medida que crece, terminan enseguida.
+ */
+public class MazeGeneratorWilson implements MazeGenerator {
+
+    /**
+     * Genera el laberinto sobre la cuadrícula dada.
+     *
+     * @param grid La cuadrícula donde se escribe el laberinto.
+     * @param seed La semilla del generador de números aleatorios.
+     */
+    @Override
+    public void generate(MazeGrid grid, long seed) {
+        Salas salas = new Salas(grid);
+        int total = salas.total();
+        if (total == 0)
+            return;
+        SplittableRandom random = new SplittableRandom(seed);
+
+        byte[] salida = new byte[total];
+        salas.abrir(random.nextInt(total));
+
+        for (int inicio = 0; inicio < total; inicio++) {
+            if (salas.abierta(inicio))
+                continue;
+
+            // Caminata aleatoria hasta tocar el laberinto, recordando la última salida de cada sala.
+            int actual = inicio;
+            while (!salas.abierta(actual)) {
+                int d;
+                int siguiente;
+                do {
+                    d = random.nextInt(4);
+                    siguiente = salas.vecina(actual, d);
+                } while (siguiente < 0);
+                salida[actual] = (byte) d;
+                actual = siguiente;
+            }
+
+            // Se repite la caminata siguiendo las últimas salidas: es el camino sin ciclos.
+            // Se comprueba antes de unir porque unir() también abre la sala siguiente.
+            actual = inicio;
+            boolean alcanzado;
+            do {
+                int siguiente = salas.vecina(actual, salida[actual]);
+                alcanzado = salas.abierta(siguiente);
+                salas.unir(actual, siguiente);
+                actual = siguiente;
+            } while (!alcanzado);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package ec.edu.ups.Estructura.generator.generatorImpl;
+
+import ec.edu.ups.Estructura.models.MazeGrid;
+
+/**
+ * Retícula de salas sobre una {@link MazeGrid}: la sala {@code (i, j)} es la celda
+ * {@code (2i, 2j)} y dos salas vecinas se unen abriendo la celda que hay entre ellas.
+ *
+ * Las salas se numeran fila por fila, igual que las celdas, y se consideran parte del
+ * laberinto cuando su celda está abierta, de modo que los generadores no necesitan un
+ * arreglo aparte de visitadas.
+ */
+final class Salas {
+    // Direcciones: arriba, abajo, izquierda, derecha (la opuesta de d es d ^ 1).
+    static final int ARRIBA = 0;
+    static final int ABAJO = 1;
+    static final int IZQUIERDA = 2;
+    static final int DERECHA = 3;
+
+    private final MazeGrid grid;
+    /**
+     * Número de filas y columnas de salas.
+     */
+    final int filas;
+    final int columnas;
+    /**
+     * Columnas de la cuadrícula de celdas.
+     */
+    private final int cols;
+
+    /**
+     * Prepara la retícula y llena la cuadrícula de muros.
+     *
+     * @param grid La cuadrícula donde se genera el laberinto.
+     */
+    Salas(MazeGrid grid) {
+        this.grid = grid;
+        this.filas = (grid.getRows() + 1) / 2;
+        this.columnas = (grid.getCols() + 1) / 2;
+        this.cols = grid.getCols();
+        grid.fillWalls(true);
+    }
+
+    /**
+     * @return El número total de salas.
+     */
+    int total() {
+        return this.filas * this.columnas;
+    }
+
+    /**
+     * @param sala El índice de una sala.
+     * @return El índice plano de su celda.
+     */
+    int celda(int sala) {
+        int i = sala / this.columnas;
+        return 2 * i * this.cols + 2 * (sala - i * this.columnas);
+    }
+
+    /**
+     * @param sala El índice de una sala.
+     * @return {@code true} si la sala ya forma parte del laberinto.
+     */
+    boolean abierta(int sala) {
+        return !this.grid.isWall(celda(sala));
+    }
+
+    /**
+     * Incorpora una sala al laberinto.
+     *
+     * @param sala El índice de la sala.
+     */
+    void abrir(int sala) {
+        this.grid.setWall(celda(sala), false);
+    }
+
+    /**
+     * Abre dos salas vecinas y el pasillo entre ellas.
+     *
+     * @param a El índice de una sala.
+     * @param b El índice de una sala vecina de {@code a}.
+     */
+    void unir(int a, int b) {
+        int ca = celda(a);
+        int cb = celda(b);
+        this.grid.setWall(ca, false);
+        this.grid.setWall((ca + cb) >>> 1, false); // Las dos celdas están en la misma fila o columna.
+        this.grid.setWall(cb, false);
+    }
+
+    /**
+     * Obtiene la sala vecina en una dirección.
+     *
+     * @param sala El índice de la sala.
+     * @param d    La dirección ({@link #ARRIBA}, {@link #ABAJO}, {@link #IZQUIERDA} o {@link #DERECHA}).
+     * @return El índice de la vecina, o -1 si la dirección sale de la retícula.
+     */
+    int vecina(int sala, int d) {
+        switch (d) {
+            case ARRIBA:
+                return sala >= this.columnas ? sala - this.columnas : -1;
+            case ABAJO:
+                return sala + this.columnas < total() ? sala + this.columnas : -1;
+            case IZQUIERDA:
+                return sala % this.columnas != 0 ? sala - 1 : -1;
+            default:
+                return (sala + 1) % this.columnas != 0 ? sala + 1 : -1;
+        }
+    }
+}
@@ -2,7 +2,8 @@ package ec.edu.ups.Estructura.models;
 
 /**
  * Modelo de datos para almacenar las métricas de rendimiento de una ejecución de algoritmo.
- * Guarda el nombre, el tamaño del camino y el tiempo de ejecución.
+ * Guarda el nombre, el tamaño del camino y el tiempo de ejecución y, en las ejecuciones por
+ * lotes, también el laberinto resuelto y el número de celdas visitadas.
  *
  * @author Cristian Moscoso
  */
@@ -19,6 +20,14 @@ public class AlgorithmResult {
      * El tiempo total de ejecución del algoritmo, medido en nanosegundos.
      */
     private long timeNs;
+    /**
+     * El nombre del laberinto resuelto, o {@code null} si se resolvió desde la interfaz.
+     */
+    private String mazeName;
+    /**
+     * El número de celdas que el algoritmo visitó durante la búsqueda.
+     */
+    private int visitedCount;
 
     /**
      * Construye una nueva instancia de resultado de algoritmo.
@@ -33,6 +42,21 @@ public class AlgorithmResult {
         this.timeNs = timeNs;
     }
 
+    /**
+     * Construye el resultado de una ejecución por lotes.
+     *
+     * @param mazeName      El nombre del laberinto.
+     * @param algorithmName El nombre del algoritmo.
+     * @param pathSize      El tamaño del camino.
+     * @param visitedCount  El número de celdas visitadas.
+     * @param timeNs        El tiempo de ejecución en nanosegundos.
+     */
+    public AlgorithmResult(String mazeName, String algorithmName, int pathSize, int visitedCount, long timeNs) {
+        this(algorithmName, pathSize, timeNs);
+        this.mazeName = mazeName;
+        this.visitedCount = visitedCount;
+    }
+
     /**
      * Obtiene el nombre del algoritmo.
      * @return El nombre del algoritmo.
@@ -81,8 +105,42 @@ public class AlgorithmResult {
         this.timeNs = timeNs;
     }
 
+    /**
+     * Obtiene el nombre del laberinto.
+     * @return El nombre del laberinto, o {@code null} si no se registró.
+     */
+    public String getMazeName() {
+        return mazeName;
+    }
+
+    /**
+     * Obtiene el número de celdas visitadas.
+     * @return El número de celdas visitadas.
+     */
+    public int getVisitedCount() {
+        return visitedCount;
+    }
+
+    /**
+     * Establece el nombre del laberinto.
+     * @param mazeName El nuevo nombre.
+     */
+    public void setMazeName(String mazeName) {
+        this.mazeName = mazeName;
+    }
+
+    /**
+     * Establece el número de celdas visitadas.
+     * @param visitedCount El nuevo número de celdas visitadas.
+     */
+    public void setVisitedCount(int visitedCount) {
+        this.visitedCount = visitedCount;
+    }
+
     /**
      * Devuelve una representación en formato CSV del objeto.
+     * Solo incluye el nombre, el tamaño del camino y el tiempo, que es el formato que
+     * lee {@code AlgorithmResultDAOFile}.
      *
      * @return Una cadena con los atributos separados por comas.
      */
@@ -22,9 +22,14 @@ public class Cell {
      */
     public CellState state;
 
+    /**
+     * El tipo de terreno de la celda, que determina su costo de travesía.
+     */
+    public Terrain terrain;
+
     /**
      * Construye una nueva celda con sus coordenadas.
-     * Por defecto, se inicializa con el estado EMPTY.
+     * Por defecto, se inicializa con el estado EMPTY y terreno NORMAL.
      *
      * @param paramInt1 La fila de la celda.
      * @param paramInt2 La columna de la celda.
@@ -33,6 +38,7 @@ public class Cell {
         this.row = paramInt1;
         this.col = paramInt2;
         this.state = CellState.EMPTY;
+        this.terrain = Terrain.NORMAL;
     }
 
     /**
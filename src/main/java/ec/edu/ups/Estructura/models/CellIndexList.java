@@ -0,0 +1,42 @@
+package ec.edu.ups.Estructura.models;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * Lista de solo lectura de celdas respaldada por un arreglo de índices planos de un
+ * {@link MazeGrid}. Permite devolver {@code visitadas} y {@code camino} en un
+ * {@link SolveResult} sin guardar una referencia a objeto por cada celda.
+ */
+class CellIndexList extends AbstractList<Cell> implements RandomAccess {
+    /**
+     * La cuadrícula que traduce índices a celdas.
+     */
+    private final MazeGrid grid;
+    /**
+     * Los índices de las celdas, en orden.
+     */
+    private final int[] indices;
+    /**
+     * El número de elementos válidos de {@code indices}.
+     */
+    private final int size;
+
+    CellIndexList(MazeGrid grid, int[] indices, int size) {
+        this.grid = grid;
+        this.indices = indices;
+        this.size = size;
+    }
+
+    @Override
+    public Cell get(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        return grid.toCell(indices[index]);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,325 @@
+package ec.edu.ups.Estructura.models;
+
+import java.util.Arrays;
+
+/**
+ * Índice de componentes conexas de las celdas libres de una {@link MazeGrid}, para saber en O(1)
+ * si dos celdas están conectadas antes de lanzar una búsqueda que, si no lo están, recorrería
+ * toda la zona alcanzable para terminar sin camino.
+ *
+ * Cada celda libre lleva la etiqueta de su componente y las etiquetas se unen con una estructura
+ * de conjuntos disjuntos (union-find). El índice se pone al día en cada consulta comparando la
+ * cuadrícula con una copia tomada la vez anterior (solo si su versión cambió):
+ * <ul>
+ *   <li>Quitar un muro une las etiquetas de las vecinas libres de la celda: casi O(1).</li>
+ *   <li>Poner un muro puede partir una componente. Se lanza una búsqueda desde cada vecina libre,
+ *       todas avanzando a la vez una celda por turno; las que se encuentran pertenecen a la misma
+ *       parte. En cuanto solo queda una parte sin terminar se detiene, y las partes que se
+ *       agotaron reciben una etiqueta nueva. Así el costo depende de las partes pequeñas que se
+ *       separan, no del tamaño de la componente.</li>
+ * </ul>
+ * Si cambió una parte grande del laberinto, o las uniones acumularon demasiadas etiquetas, se
+ * reconstruye completo.
+ *
+ * Los métodos están sincronizados, así que varios hilos pueden consultar el mismo índice.
+ *
+ * @author Cristian Moscoso
+ */
+public class ConnectivityIndex {
+    /**
+     * Etiqueta de las celdas con muro, que no pertenecen a ninguna componente.
+     */
+    private static final int MURO = -1;
+
+    /**
+     * Si cambia más de esta fracción de las celdas, es más barato reconstruir que actualizar.
+     */
+    private static final int FRACCION_RECONSTRUCCION = 8;
+
+    // Desplazamientos de fila y columna para los cuatro vecinos (abajo, arriba, derecha, izquierda).
+    private static final int[] DIR_FILA = { 1, -1, 0, 0 };
+    private static final int[] DIR_COL = { 0, 0, 1, -1 };
+
+    private final MazeGrid grid;
+    /**
+     * Muros con los que se calcularon las componentes actuales.
+     */
+    private final MazeGrid copia;
+    private long version;
+    private final int rows;
+    private final int cols;
+    /**
+     * Etiqueta de la componente de cada celda, o {@link #MURO}.
+     */
+    private final int[] etiqueta;
+    /**
+     * Padre de cada etiqueta en el union-find.
+     */
+    private int[] padre = new int[16];
+    private int numEtiquetas;
+    /**
+     * Marcas de las búsquedas al poner un muro: la búsqueda {@code j} marca con {@code sello + j}.
+     */
+    private final int[] marca;
+    private int sello;
+    /**
+     * Celdas alcanzadas por cada una de las (hasta cuatro) búsquedas al poner un muro.
+     */
+    private final int[][] visitadas = new int[4][16];
+
+    /**
+     * Crea el índice y calcula las componentes de la cuadrícula.
+     *
+     * @param grid La cuadrícula a indexar.
+     */
+    public ConnectivityIndex(MazeGrid grid) {
+        int n = grid.size();
+        this.grid = grid;
+        this.copia = grid.copy();
+        this.rows = grid.getRows();
+        this.cols = grid.getCols();
+        this.etiqueta = new int[n];
+        this.marca = new int[n];
+        reconstruir();
+    }
+
+    /**
+     * Indica si puede existir un camino entre dos celdas. Si alguna de las dos es un muro no se
+     * descarta nada, porque algunos solvers permiten salir de un inicio marcado como muro.
+     *
+     * @param a El índice plano de una celda.
+     * @param b El índice plano de otra celda.
+     * @return {@code false} solo si es seguro que no hay camino entre ellas.
+     */
+    public synchronized boolean conectadas(int a, int b) {
+        sincronizar();
+        if (this.etiqueta[a] == MURO || this.etiqueta[b] == MURO)
+            return true;
+        return raiz(this.etiqueta[a]) == raiz(this.etiqueta[b]);
+    }
+
+    /**
+     * @return La cuadrícula indexada.
+     */
+    public MazeGrid getGrid() {
+        return this.grid;
+    }
+
+    /**
+     * Aplica los cambios de la cuadrícula desde la última consulta.
+     */
+    private void sincronizar() {
+        if (this.grid.getVersion() == this.version)
+            return;
+        int limite = Math.max(1, this.grid.size() / FRACCION_RECONSTRUCCION);
+        int cambios = 0;
+        for (int i = this.grid.firstDifference(this.copia, 0); i >= 0; i = this.grid.firstDifference(this.copia, i + 1)) {
+            boolean muro = this.grid.isWall(i);
+            this.copia.setCost(i, this.grid.getCost(i));
+            if (muro == this.copia.isWall(i))
+                continue; // Solo cambió el costo.
+            this.copia.setWall(i, muro);
+            if (++cambios > limite) {
+                // Se copia el resto de los muros y se etiqueta todo de nuevo.
+                for (int j = i + 1; j < this.grid.size(); j++) {
+                    this.copia.setWall(j, this.grid.isWall(j));
+                    this.copia.setCost(j, this.grid.getCost(j));
+                }
+                reconstruir();
+                return;
+            }
+            if (muro)
+                cerrar(i);
+            else
+                abrir(i);
+        }
+        if (this.numEtiquetas > 2 * this.grid.size() + 16) {
+            reconstruir(); // Demasiadas etiquetas viejas: se compactan.
+            return;
+        }
+        this.version = this.grid.getVersion();
+    }
+
+    /**
+     * Etiqueta todas las componentes desde cero con una búsqueda por componente.
+     */
+    private void reconstruir() {
+        int n = this.etiqueta.length;
+        for (int i = 0; i < n; i++)
+            this.etiqueta[i] = this.copia.isWall(i) ? MURO : Integer.MAX_VALUE;
+        this.numEtiquetas = 0;
+        int[] cola = this.visitadas[0];
+        for (int i = 0; i < n; i++) {
+            if (this.etiqueta[i] != Integer.MAX_VALUE)
+                continue;
+            int nueva = nuevaEtiqueta();
+            int fin = 0;
+            cola[fin++] = i;
+            this.etiqueta[i] = nueva;
+            for (int cabeza = 0; cabeza < fin; cabeza++) {
+                int actual = cola[cabeza];
+                int fila = actual / this.cols;
+                int col = actual - fila * this.cols;
+                for (int d = 0; d < 4; d++) {
+                    int f = fila + DIR_FILA[d];
+                    int c = col + DIR_COL[d];
+                    if (f < 0 || f >= this.rows || c < 0 || c >= this.cols)
+                        continue;
+                    int vecina = f * this.cols + c;
+                    if (this.etiqueta[vecina] == Integer.MAX_VALUE) {
+                        this.etiqueta[vecina] = nueva;
+                        if (fin == cola.length)
+                            cola = this.visitadas[0] = Arrays.copyOf(cola, Math.min(n, fin * 2));
+                        cola[fin++] = vecina;
+                    }
+                }
+            }
+        }
+        this.version = this.grid.getVersion();
+    }
+
+    /**
+     * Una celda que deja de ser muro une las componentes de sus vecinas libres.
+     */
+    private void abrir(int celda) {
+        int raizCelda = MURO;
+        int fila = celda / this.cols;
+        int col = celda - fila * this.cols;
+        for (int d = 0; d < 4; d++) {
+            int f = fila + DIR_FILA[d];
+            int c = col + DIR_COL[d];
+            if (f < 0 || f >= this.rows || c < 0 || c >= this.cols)
+                continue;
+            int vecina = f * this.cols + c;
+            if (this.etiqueta[vecina] == MURO)
+                continue;
+            int r = raiz(this.etiqueta[vecina]);
+            if (raizCelda == MURO)
+                raizCelda = r;
+            else if (r != raizCelda)
+                this.padre[r] = raizCelda;
+        }
+        this.etiqueta[celda] = raizCelda == MURO ? nuevaEtiqueta() : raizCelda;
+    }
+
+    /**
+     * Una celda que pasa a ser muro puede partir su componente. Se busca a la vez desde cada
+     * vecina libre; las búsquedas que se tocan se agrupan y cada grupo que se agota sin tocar a
+     * los demás es una componente nueva.
+     */
+    private void cerrar(int celda) {
+        this.etiqueta[celda] = MURO;
+        int[] semillas = new int[4];
+        int k = 0;
+        int fila = celda / this.cols;
+        int col = celda - fila * this.cols;
+        for (int d = 0; d < 4; d++) {
+            int f = fila + DIR_FILA[d];
+            int c = col + DIR_COL[d];
+            if (f >= 0 && f < this.rows && c >= 0 && c < this.cols && this.etiqueta[f * this.cols + c] != MURO)
+                semillas[k++] = f * this.cols + c;
+        }
+        if (k < 2)
+            return; // Con una sola vecina libre la componente no se parte.
+
+        if (this.sello > Integer.MAX_VALUE - 8) {
+            Arrays.fill(this.marca, 0);
+            this.sello = 0;
+        }
+        this.sello += 4;
+        int[] cabeza = new int[k];
+        int[] fin = new int[k];
+        int[] grupo = new int[k];
+        boolean[] terminada = new boolean[k];
+        for (int j = 0; j < k; j++) {
+            grupo[j] = j;
+            this.visitadas[j][fin[j]++] = semillas[j];
+            this.marca[semillas[j]] = this.sello + j;
+        }
+        int activos = k;
+        while (activos > 1) {
+            for (int j = 0; j < k && activos > 1; j++) {
+                if (terminada[j] || cabeza[j] == fin[j])
+                    continue;
+                int actual = this.visitadas[j][cabeza[j]++];
+                int fa = actual / this.cols;
+                int ca = actual - fa * this.cols;
+                for (int d = 0; d < 4; d++) {
+                    int f = fa + DIR_FILA[d];
+                    int c = ca + DIR_COL[d];
+                    if (f < 0 || f >= this.rows || c < 0 || c >= this.cols)
+                        continue;
+                    int vecina = f * this.cols + c;
+                    if (this.etiqueta[vecina] == MURO)
+                        continue;
+                    int otra = this.marca[vecina] - this.sello;
+                    if (otra >= 0 && otra < k) {
+                        // Dos búsquedas se encontraron: están en la misma parte.
+                        int gj = grupoDe(grupo, j);
+                        int go = grupoDe(grupo, otra);
+                        if (gj != go) {
+                            grupo[go] = gj;
+                            activos--;
+                            if (activos == 1)
+                                break;
+                        }
+                    } else {
+                        this.marca[vecina] = this.sello + j;
+                        if (fin[j] == this.visitadas[j].length)
+                            this.visitadas[j] = Arrays.copyOf(this.visitadas[j], fin[j] * 2);
+                        this.visitadas[j][fin[j]++] = vecina;
+                    }
+                }
+                if (activos > 1 && cabeza[j] == fin[j] && agotado(grupo, cabeza, fin, j)) {
+                    // El grupo recorrió toda su parte sin tocar a los demás: es una componente nueva.
+                    int nueva = nuevaEtiqueta();
+                    int g = grupoDe(grupo, j);
+                    for (int m = 0; m < k; m++) {
+                        if (grupoDe(grupo, m) != g)
+                            continue;
+                        terminada[m] = true;
+                        for (int i = 0; i < fin[m]; i++)
+                            this.etiqueta[this.visitadas[m][i]] = nueva;
+                    }
+                    activos--;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return {@code true} si todas las búsquedas del grupo de {@code j} vaciaron su cola.
+     */
+    private static boolean agotado(int[] grupo, int[] cabeza, int[] fin, int j) {
+        int g = grupoDe(grupo, j);
+        for (int m = 0; m < grupo.length; m++) {
+            if (grupoDe(grupo, m) == g && cabeza[m] < fin[m])
+                return false;
+        }
+        return true;
+    }
+
+    private static int grupoDe(int[] grupo, int j) {
+        while (grupo[j] != j)
+            j = grupo[j];
+        return j;
+    }
+
+    private int nuevaEtiqueta() {
+        if (this.numEtiquetas == this.padre.length)
+            this.padre = Arrays.copyOf(this.padre, this.numEtiquetas * 2);
+        this.padre[this.numEtiquetas] = this.numEtiquetas;
+        return this.numEtiquetas++;
+    }
+
+    /**
+     * Busca el representante de una etiqueta, acortando el camino por mitades.
+     */
+    private int raiz(int x) {
+        while (this.padre[x] != x) {
+            this.padre[x] = this.padre[this.padre[x]];
+            x = this.padre[x];
+        }
+        return x;
+    }
+}
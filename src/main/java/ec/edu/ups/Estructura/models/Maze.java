@@ -0,0 +1,41 @@
+package ec.edu.ups.Estructura.models;
+
+/**
+ * Un laberinto tal como se guarda en un archivo: la cuadrícula junto con su nombre y las
+ * celdas de inicio y fin.
+ *
+ * @author Cristian Moscoso
+ */
+public class Maze {
+    /**
+     * Nombre del laberinto (normalmente, el nombre del archivo del que se leyó).
+     */
+    public final String nombre;
+    /**
+     * Muros y costos del laberinto.
+     */
+    public final MazeGrid grid;
+    /**
+     * Índice plano de la celda de inicio.
+     */
+    public final int inicio;
+    /**
+     * Índice plano de la celda de fin.
+     */
+    public final int fin;
+
+    /**
+     * Construye un nuevo laberinto.
+     *
+     * @param nombre El nombre del laberinto.
+     * @param grid   La cuadrícula.
+     * @param inicio El índice plano de la celda de inicio.
+     * @param fin    El índice plano de la celda de fin.
+     */
+    public Maze(String nombre, MazeGrid grid, int inicio, int fin) {
+        this.nombre = nombre;
+        this.grid = grid;
+        this.inicio = inicio;
+        this.fin = fin;
+    }
+}
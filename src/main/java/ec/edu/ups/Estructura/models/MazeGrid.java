@@ -0,0 +1,376 @@
+package ec.edu.ups.Estructura.models;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Representación compacta del laberinto para los algoritmos de resolución.
+ * En lugar de una matriz de objetos {@link Cell}, guarda los muros en un arreglo
+ * plano de bytes indexado por {@code fila * columnas + columna}, de modo que recorrer
+ * vecinos es acceder a posiciones contiguas de memoria.
+ *
+ * Si la cuadrícula se creó a partir de una matriz de celdas, conserva la referencia
+ * a esa matriz para poder devolver las mismas instancias de {@link Cell} en los resultados.
+ * En ese caso {@link #setWall(int, boolean)}, {@link #fillWalls(boolean)} y
+ * {@link #setCost(int, int)} también actualizan el estado y el terreno de las celdas de origen,
+ * de modo que los algoritmos que trabajan sobre {@link #toCellMatrix()} ven el mismo laberinto.
+ */
+public class MazeGrid {
+    /**
+     * Valor que marca una celda transitable.
+     */
+    public static final byte OPEN = 0;
+    /**
+     * Valor que marca una celda con muro.
+     */
+    public static final byte WALL = 1;
+
+    /**
+     * Número de filas de la cuadrícula.
+     */
+    private final int rows;
+    /**
+     * Número de columnas de la cuadrícula.
+     */
+    private final int cols;
+    /**
+     * Estado de cada celda ({@link #OPEN} o {@link #WALL}) en orden fila por fila.
+     */
+    private final byte[] walls;
+    /**
+     * Costo de entrar en cada celda, o {@code null} mientras todas cuesten 1.
+     */
+    private byte[] costs;
+    /**
+     * Cota superior de los costos asignados (1 si la cuadrícula no tiene pesos).
+     */
+    private int maxCost = 1;
+    /**
+     * Contador de modificaciones: aumenta cada vez que cambia un muro o un costo, de modo que
+     * dos lecturas con la misma versión ven el mismo laberinto.
+     */
+    private long version;
+    /**
+     * Matriz de celdas de la que proviene esta cuadrícula, o {@code null} si se creó vacía.
+     */
+    private final Cell[][] source;
+
+    /**
+     * Crea una cuadrícula vacía (sin muros) de las dimensiones indicadas.
+     *
+     * @param rows El número de filas.
+     * @param cols El número de columnas.
+     */
+    public MazeGrid(int rows, int cols) {
+        this(rows, cols, null);
+    }
+
+    private MazeGrid(int rows, int cols, Cell[][] source) {
+        this.rows = rows;
+        this.cols = cols;
+        this.walls = new byte[rows * cols];
+        this.source = source;
+    }
+
+    /**
+     * Construye la cuadrícula compacta equivalente a una matriz de celdas.
+     * Las celdas cuyo estado es {@link CellState#WALL} se marcan como muro y
+     * el terreno de cada celda se copia como su costo.
+     *
+     * @param cells La matriz de celdas del laberinto (por ejemplo, {@code MazePanel.getCells()}).
+     * @return Una nueva cuadrícula enlazada a la matriz de origen.
+     */
+    public static MazeGrid fromCells(Cell[][] cells) {
+        int rows = cells.length;
+        int cols = rows == 0 ? 0 : cells[0].length;
+        MazeGrid grid = new MazeGrid(rows, cols, cells);
+        for (int r = 0; r < rows; r++) {
+            Cell[] fila = cells[r];
+            int base = r * cols;
+            for (int c = 0; c < cols; c++) {
+                if (fila[c].state == CellState.WALL)
+                    grid.walls[base + c] = WALL;
+                if (fila[c].terrain != null && fila[c].terrain != Terrain.NORMAL)
+                    grid.setCost(base + c, fila[c].terrain.getCost());
+            }
+        }
+        return grid;
+    }
+
+    /**
+     * @return El número de filas.
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * @return El número de columnas.
+     */
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * @return El número total de celdas ({@code filas * columnas}).
+     */
+    public int size() {
+        return walls.length;
+    }
+
+    /**
+     * Convierte coordenadas de fila y columna en el índice plano de la celda.
+     *
+     * @param row La fila.
+     * @param col La columna.
+     * @return El índice {@code row * cols + col}.
+     */
+    public int index(int row, int col) {
+        return row * cols + col;
+    }
+
+    /**
+     * @param index El índice plano de una celda.
+     * @return La fila de la celda.
+     */
+    public int row(int index) {
+        return index / cols;
+    }
+
+    /**
+     * @param index El índice plano de una celda.
+     * @return La columna de la celda.
+     */
+    public int col(int index) {
+        return index % cols;
+    }
+
+    /**
+     * Indica si las coordenadas están dentro de la cuadrícula.
+     *
+     * @param row La fila.
+     * @param col La columna.
+     * @return {@code true} si la posición existe.
+     */
+    public boolean inBounds(int row, int col) {
+        return row >= 0 && row < rows && col >= 0 && col < cols;
+    }
+
+    /**
+     * @param index El índice plano de una celda.
+     * @return {@code true} si la celda es un muro.
+     */
+    public boolean isWall(int index) {
+        return walls[index] == WALL;
+    }
+
+    /**
+     * @param row La fila.
+     * @param col La columna.
+     * @return {@code true} si la celda es un muro.
+     */
+    public boolean isWall(int row, int col) {
+        return walls[row * cols + col] == WALL;
+    }
+
+    /**
+     * Marca o desmarca una celda como muro.
+     *
+     * @param index El índice plano de la celda.
+     * @param wall  {@code true} para poner un muro, {@code false} para dejarla libre.
+     */
+    public void setWall(int index, boolean wall) {
+        walls[index] = wall ? WALL : OPEN;
+        if (source != null)
+            sincronizarMuro(source[index / cols][index % cols], wall);
+        version++;
+    }
+
+    /**
+     * Refleja un muro en la celda de origen. Al quitarlo, solo una celda marcada como muro pasa a
+     * estar vacía: el inicio, el fin y las marcas del camino se conservan.
+     */
+    private static void sincronizarMuro(Cell cell, boolean wall) {
+        if (wall)
+            cell.state = CellState.WALL;
+        else if (cell.state == CellState.WALL)
+            cell.state = CellState.EMPTY;
+    }
+
+    /**
+     * Marca o desmarca una celda como muro.
+     *
+     * @param row  La fila.
+     * @param col  La columna.
+     * @param wall {@code true} para poner un muro, {@code false} para dejarla libre.
+     */
+    public void setWall(int row, int col, boolean wall) {
+        setWall(row * cols + col, wall);
+    }
+
+    /**
+     * Marca o desmarca todas las celdas como muro.
+     *
+     * @param wall {@code true} para llenar la cuadrícula de muros, {@code false} para vaciarla.
+     */
+    public void fillWalls(boolean wall) {
+        Arrays.fill(walls, wall ? WALL : OPEN);
+        if (source != null) {
+            for (Cell[] fila : source) {
+                for (Cell cell : fila)
+                    sincronizarMuro(cell, wall);
+            }
+        }
+        version++;
+    }
+
+    /**
+     * Crea una copia independiente de los muros y costos, sin matriz de celdas de origen.
+     *
+     * @return La copia.
+     */
+    public MazeGrid copy() {
+        MazeGrid copia = new MazeGrid(rows, cols);
+        System.arraycopy(walls, 0, copia.walls, 0, walls.length);
+        if (costs != null)
+            copia.costs = costs.clone();
+        copia.maxCost = maxCost;
+        return copia;
+    }
+
+    /**
+     * Busca la primera celda, a partir de {@code from}, cuyo muro o costo difiere del de otra
+     * cuadrícula de las mismas dimensiones. Compara bloques de memoria con
+     * {@link Arrays#mismatch}, así que recorrer una cuadrícula sin cambios es muy rápido.
+     *
+     * @param other La cuadrícula con la que se compara.
+     * @param from  El primer índice a comparar.
+     * @return El índice de la primera diferencia, o -1 si no hay ninguna.
+     */
+    public int firstDifference(MazeGrid other, int from) {
+        int n = walls.length;
+        if (from >= n)
+            return -1;
+        int muro = Arrays.mismatch(walls, from, n, other.walls, from, n);
+        int costo = -1;
+        if (costs != null && other.costs != null) {
+            costo = Arrays.mismatch(costs, from, n, other.costs, from, n);
+        } else if (costs != null || other.costs != null) {
+            // Una de las dos no tiene pesos: equivale a un arreglo de unos.
+            byte[] conPesos = costs != null ? costs : other.costs;
+            for (int i = from; i < n; i++) {
+                if (conPesos[i] != 1) {
+                    costo = i - from;
+                    break;
+                }
+            }
+        }
+        if (muro < 0)
+            return costo < 0 ? -1 : from + costo;
+        return from + (costo < 0 ? muro : Math.min(muro, costo));
+    }
+
+    /**
+     * Obtiene el costo de entrar en una celda.
+     *
+     * @param index El índice plano de la celda.
+     * @return El costo (1 si la cuadrícula no tiene pesos).
+     */
+    public int getCost(int index) {
+        return costs == null ? 1 : costs[index];
+    }
+
+    /**
+     * Asigna el costo de entrar en una celda.
+     *
+     * @param index El índice plano de la celda.
+     * @param cost  El costo, entre 1 y 127.
+     */
+    public void setCost(int index, int cost) {
+        if (cost < 1 || cost > Byte.MAX_VALUE)
+            throw new IllegalArgumentException("Costo fuera de rango: " + cost);
+        if (source != null)
+            source[index / cols][index % cols].terrain = Terrain.fromCost(cost);
+        if (costs == null) {
+            if (cost == 1)
+                return;
+            costs = new byte[walls.length];
+            Arrays.fill(costs, (byte) 1);
+        }
+        costs[index] = (byte) cost;
+        if (cost > maxCost)
+            maxCost = cost;
+        version++;
+    }
+
+    /**
+     * Obtiene la versión actual de la cuadrícula. Cambia con cada llamada a
+     * {@link #setWall(int, boolean)}, {@link #fillWalls(boolean)} o {@link #setCost(int, int)}.
+     *
+     * @return El número de modificaciones hechas desde que se creó la cuadrícula.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * @return {@code true} si alguna celda tiene un costo distinto de 1.
+     */
+    public boolean isWeighted() {
+        return costs != null;
+    }
+
+    /**
+     * @return Una cota superior del costo de cualquier celda.
+     */
+    public int getMaxCost() {
+        return maxCost;
+    }
+
+    /**
+     * Devuelve la celda correspondiente a un índice. Si la cuadrícula tiene una matriz
+     * de origen se devuelve la misma instancia; si no, se crea una celda nueva.
+     *
+     * @param index El índice plano de la celda.
+     * @return La celda en esa posición.
+     */
+    public Cell toCell(int index) {
+        int r = index / cols;
+        int c = index % cols;
+        if (source != null)
+            return source[r][c];
+        Cell cell = new Cell(r, c);
+        if (walls[index] == WALL)
+            cell.state = CellState.WALL;
+        if (costs != null)
+            cell.terrain = Terrain.fromCost(costs[index]);
+        return cell;
+    }
+
+    /**
+     * Devuelve una matriz de celdas equivalente a la cuadrícula. Si existe una matriz
+     * de origen se devuelve esa misma; si no, se construye una nueva.
+     *
+     * @return La matriz de celdas.
+     */
+    public Cell[][] toCellMatrix() {
+        if (source != null)
+            return source;
+        Cell[][] cells = new Cell[rows][cols];
+        for (int i = 0; i < walls.length; i++)
+            cells[i / cols][i % cols] = toCell(i);
+        return cells;
+    }
+
+    /**
+     * Crea una lista de celdas respaldada por un arreglo de índices. Las celdas se
+     * resuelven al leerlas, así que la lista ocupa un {@code int} por elemento.
+     *
+     * @param indices Los índices de las celdas (no se copia).
+     * @param size    Cuántos elementos del arreglo forman la lista.
+     * @return Una lista de solo lectura con las celdas.
+     */
+    public List<Cell> cellList(int[] indices, int size) {
+        return new CellIndexList(this, indices, size);
+    }
+}
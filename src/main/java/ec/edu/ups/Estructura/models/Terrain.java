@@ -0,0 +1,50 @@
+package ec.edu.ups.Estructura.models;
+
+/**
+ * Representa el tipo de terreno de una celda transitable y el costo de atravesarla.
+ * El costo se cobra al entrar en la celda.
+ */
+public enum Terrain {
+    /**
+     * Suelo normal, costo 1.
+     */
+    NORMAL(1),
+    /**
+     * Barro, costo 3.
+     */
+    MUD(3),
+    /**
+     * Agua, costo 5.
+     */
+    WATER(5);
+
+    /**
+     * El costo de entrar en una celda con este terreno.
+     */
+    private final int cost;
+
+    Terrain(int cost) {
+        this.cost = cost;
+    }
+
+    /**
+     * Obtiene el costo de entrar en una celda con este terreno.
+     * @return El costo (mayor o igual a 1).
+     */
+    public int getCost() {
+        return cost;
+    }
+
+    /**
+     * Busca el terreno que tiene un costo dado.
+     * @param cost El costo de la celda.
+     * @return El terreno con ese costo, o {@link #NORMAL} si ninguno coincide.
+     */
+    public static Terrain fromCost(int cost) {
+        for (Terrain terrain : values()) {
+            if (terrain.cost == cost)
+                return terrain;
+        }
+        return NORMAL;
+    }
+}
@@ -0,0 +1,185 @@
+package ec.edu.ups.Estructura.solver;
+
+import java.util.Arrays;
+
+import ec.edu.ups.Estructura.models.MazeGrid;
+
+/**
+ * Campo de distancias hacia una celda fija: para cada celda, el número de pasos del camino más
+ * corto hasta el destino. Se calcula con una única BFS inversa desde el destino y después
+ * responde cualquier consulta origen → destino bajando por el gradiente, en tiempo proporcional
+ * al largo del camino y sin volver a buscar.
+ *
+ * El campo recuerda la cuadrícula y la versión con las que se calculó: {@link #actualizar}
+ * solo vuelve a calcular cuando cambia el destino o se edita el laberinto. Los arreglos se
+ * reutilizan entre cálculos. Las distancias cuentan pasos, sin tener en cuenta el terreno.
+ *
+ * Una instancia no es segura para usarse desde varios hilos a la vez.
+ *
+ * @author Cristian Moscoso
+ */
+public final class DistanceField {
+    /**
+     * Distancia de las celdas desde las que no se puede llegar al destino.
+     */
+    public static final int INALCANZABLE = -1;
+
+    // Desplazamientos de fila y columna para los cuatro vecinos (abajo, arriba, derecha, izquierda).
+    private static final int[] DIR_FILA = { 1, -1, 0, 0 };
+    private static final int[] DIR_COL = { 0, 0, 1, -1 };
+
+    private MazeGrid grid;
+    private long version;
+    private int destino = -1;
+    /**
+     * Distancia de cada celda al destino, o {@link #INALCANZABLE}.
+     */
+    private int[] distancia = new int[0];
+    /**
+     * Cola de la BFS; al terminar contiene las celdas alcanzables en orden de distancia.
+     */
+    private int[] cola = new int[0];
+    private int alcanzables;
+    private int maxDistancia;
+
+    /**
+     * Deja el campo calculado hacia {@code destino} sobre el estado actual de la cuadrícula.
+     *
+     * @param grid    La cuadrícula del laberinto.
+     * @param destino El índice plano de la celda de destino.
+     * @return {@code true} si hubo que recalcular, {@code false} si el campo ya estaba al día.
+     */
+    public boolean actualizar(MazeGrid grid, int destino) {
+        if (esValido(grid, destino))
+            return false;
+        calcular(grid, destino);
+        return true;
+    }
+
+    /**
+     * @return {@code true} si el campo corresponde a esta cuadrícula, en su versión actual, y a este destino.
+     */
+    public boolean esValido(MazeGrid grid, int destino) {
+        return grid == this.grid && grid.getVersion() == this.version && destino == this.destino;
+    }
+
+    private void calcular(MazeGrid grid, int destino) {
+        int n = grid.size();
+        if (this.distancia.length < n) {
+            this.distancia = new int[n];
+            this.cola = new int[n];
+        }
+        int[] dist = this.distancia;
+        Arrays.fill(dist, 0, n, INALCANZABLE);
+        this.grid = grid;
+        this.version = grid.getVersion();
+        this.destino = destino;
+        this.alcanzables = 0;
+        this.maxDistancia = 0;
+        if (grid.isWall(destino))
+            return;
+
+        int rows = grid.getRows();
+        int cols = grid.getCols();
+        int[] q = this.cola;
+        int fin = 0;
+        q[fin++] = destino;
+        dist[destino] = 0;
+        for (int cabeza = 0; cabeza < fin; cabeza++) {
+            int actual = q[cabeza];
+            int fila = actual / cols;
+            int col = actual - fila * cols;
+            int d = dist[actual] + 1;
+            for (int k = 0; k < 4; k++) {
+                int f = fila + DIR_FILA[k];
+                int c = col + DIR_COL[k];
+                if (f < 0 || f >= rows || c < 0 || c >= cols)
+                    continue;
+                int vecino = f * cols + c;
+                if (dist[vecino] == INALCANZABLE && !grid.isWall(vecino)) {
+                    dist[vecino] = d;
+                    q[fin++] = vecino;
+                }
+            }
+        }
+        this.alcanzables = fin;
+        this.maxDistancia = dist[q[fin - 1]];
+    }
+
+    /**
+     * @param celda El índice plano de una celda.
+     * @return Su distancia al destino, o {@link #INALCANZABLE}.
+     */
+    public int distancia(int celda) {
+        return this.distancia[celda];
+    }
+
+    /**
+     * @return La mayor distancia de una celda alcanzable.
+     */
+    public int getMaxDistancia() {
+        return this.maxDistancia;
+    }
+
+    /**
+     * @return El número de celdas desde las que se llega al destino.
+     */
+    public int getAlcanzables() {
+        return this.alcanzables;
+    }
+
+    /**
+     * Celdas alcanzables en el orden en que las descubrió la BFS (de menor a mayor distancia).
+     *
+     * @return Un arreglo cuyos primeros {@link #getAlcanzables()} elementos son válidos.
+     */
+    public int[] ordenDeCalculo() {
+        return this.cola;
+    }
+
+    /**
+     * Camino más corto desde {@code origen} hasta el destino, bajando en cada paso a un vecino
+     * cuya distancia es una menos.
+     *
+     * @param origen El índice plano de la celda de origen.
+     * @return Los índices del camino, de origen a destino, o un arreglo vacío si no se puede llegar.
+     */
+    public int[] camino(int origen) {
+        int cols = this.grid.getCols();
+        int rows = this.grid.getRows();
+        int d = this.distancia[origen];
+        if (d == INALCANZABLE && this.grid.isWall(origen)) {
+            // Como en los demás solvers, un origen sobre un muro puede salir hacia un vecino libre.
+            int fila = origen / cols;
+            int col = origen - fila * cols;
+            for (int k = 0; k < 4; k++) {
+                int f = fila + DIR_FILA[k];
+                int c = col + DIR_COL[k];
+                if (f >= 0 && f < rows && c >= 0 && c < cols) {
+                    int dv = this.distancia[f * cols + c];
+                    if (dv != INALCANZABLE && (d == INALCANZABLE || dv + 1 < d))
+                        d = dv + 1;
+                }
+            }
+        }
+        if (d == INALCANZABLE)
+            return new int[0];
+        int[] camino = new int[d + 1];
+        int actual = origen;
+        camino[0] = actual;
+        for (int i = 1; i <= d; i++) {
+            int fila = actual / cols;
+            int col = actual - fila * cols;
+            for (int k = 0; k < 4; k++) {
+                int f = fila + DIR_FILA[k];
+                int c = col + DIR_COL[k];
+                if (f >= 0 && f < rows && c >= 0 && c < cols && this.distancia[f * cols + c] == d - i) {
+                    actual = f * cols + c;
+                    break;
+                }
+            }
+            camino[i] = actual;
+        }
+        return camino;
+    }
+}
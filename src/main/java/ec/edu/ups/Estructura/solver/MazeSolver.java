@@ -1,12 +1,19 @@
 package ec.edu.ups.Estructura.solver;
 
 import ec.edu.ups.Estructura.models.Cell;
+import ec.edu.ups.Estructura.models.MazeGrid;
 import ec.edu.ups.Estructura.models.SolveResult;
 
 /**
  * Define el contrato que debe seguir cualquier clase que resuelva laberintos.
  * Esto permite tratar a todos los algoritmos de resolución de la misma manera.
  *
+ * Las implementaciones no deben guardar estado de una búsqueda en campos de instancia: todo lo
+ * que necesita una llamada vive en variables locales o en un espacio de trabajo propio de cada hilo.
+ * Así una sola instancia puede resolver varios laberintos a la vez desde hilos distintos y puede
+ * reutilizarse indefinidamente (ver {@link MazeSolvers}). Los resultados devueltos nunca comparten
+ * memoria con ese espacio de trabajo.
+ *
  * @author Cristian Moscoso
  */
 public interface MazeSolver {
@@ -19,4 +26,43 @@ public interface MazeSolver {
      * @return Un objeto {@link SolveResult} que contiene el camino encontrado y las celdas visitadas.
      */
     public SolveResult getPath(Cell[][] maze, Cell startCell, Cell endCell);
-}
\ No newline at end of file
+
+    /**
+     * Busca un camino sobre la representación compacta del laberinto.
+     * La implementación por defecto recurre a {@link #getPath(Cell[][], Cell, Cell)} usando
+     * la matriz de celdas de la cuadrícula; los algoritmos que recorren muchas celdas
+     * la sobrescriben para trabajar directamente sobre los índices planos.
+     *
+     * @param grid  La cuadrícula compacta del laberinto.
+     * @param start El índice plano de la celda de inicio.
+     * @param end   El índice plano de la celda de destino.
+     * @return Un objeto {@link SolveResult} que contiene el camino encontrado y las celdas visitadas.
+     */
+    public default SolveResult getPath(MazeGrid grid, int start, int end) {
+        Cell[][] maze = grid.toCellMatrix();
+        return getPath(maze, maze[grid.row(start)][grid.col(start)], maze[grid.row(end)][grid.col(end)]);
+    }
+
+    /**
+     * Busca un camino publicando cada celda visitada y cada celda del camino en {@code sink}
+     * a medida que se producen, sin devolver las listas completas.
+     * La implementación por defecto ejecuta {@link #getPath(MazeGrid, int, int)} y reenvía sus
+     * resultados; los algoritmos sobre índices planos la sobrescriben para avisar durante la búsqueda.
+     *
+     * @param grid  La cuadrícula compacta del laberinto.
+     * @param start El índice plano de la celda de inicio.
+     * @param end   El índice plano de la celda de destino.
+     * @param sink  El receptor de los eventos.
+     * @return {@code true} si se encontró un camino.
+     */
+    public default boolean solve(MazeGrid grid, int start, int end, SolveSink sink) {
+        SolveResult result = getPath(grid, start, end);
+        for (Cell cell : result.visitadas)
+            sink.celdaVisitada(grid.index(cell.row, cell.col));
+        for (Cell cell : result.camino)
+            sink.celdaDelCamino(grid.index(cell.row, cell.col));
+        boolean encontrado = !result.camino.isEmpty();
+        sink.finalizado(encontrado);
+        return encontrado;
+    }
+}
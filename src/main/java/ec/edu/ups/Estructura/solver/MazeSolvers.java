@@ -0,0 +1,102 @@
+package ec.edu.ups.Estructura.solver;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import ec.edu.ups.Estructura.solver.solverImpl.MazeSolverAStar;
+import ec.edu.ups.Estructura.solver.solverImpl.MazeSolverBFS;
+import ec.edu.ups.Estructura.solver.solverImpl.MazeSolverBFSBidireccional;
+import ec.edu.ups.Estructura.solver.solverImpl.MazeSolverBFSParalelo;
+import ec.edu.ups.Estructura.solver.solverImpl.MazeSolverCampoDistancias;
+import ec.edu.ups.Estructura.solver.solverImpl.MazeSolverDFS;
+import ec.edu.ups.Estructura.solver.solverImpl.MazeSolverDijkstra;
+import ec.edu.ups.Estructura.solver.solverImpl.MazeSolverHPAStar;
+import ec.edu.ups.Estructura.solver.solverImpl.MazeSolverJPS;
+import ec.edu.ups.Estructura.solver.solverImpl.MazeSolverLPAStar;
+import ec.edu.ups.Estructura.solver.solverImpl.MazeSolverRecursivo;
+import ec.edu.ups.Estructura.solver.solverImpl.MazeSolverRecursivoCompleto;
+import ec.edu.ups.Estructura.solver.solverImpl.MazeSolverRecursivoCompletoBT;
+
+/**
+ * Registro de los algoritmos de resolución disponibles, por nombre.
+ *
+ * Como los solvers no guardan estado entre llamadas, cada algoritmo tiene una única instancia
+ * compartida por toda la aplicación, que puede usarse desde cualquier hilo. Las excepciones son
+ * {@link MazeSolverLPAStar}, {@link MazeSolverHPAStar} y {@link MazeSolverCampoDistancias}, que
+ * conservan su trabajo entre llamadas para no repetirlo: son seguros entre hilos, pero solo aprovechan ese estado si se
+ * usan siempre con el mismo laberinto y la misma celda final, y atienden una llamada a la vez.
+ * Para resolver laberintos distintos en paralelo, {@link #nuevaInstancia(String)} da a cada
+ * tarea su propia instancia.
+ *
+ * @author Cristian Moscoso
+ */
+public final class MazeSolvers {
+    /**
+     * Nombre del algoritmo que se usa cuando se pide uno desconocido.
+     */
+    public static final String PREDETERMINADO = "Recursivo";
+
+    private static final Map<String, MazeSolver> SOLVERS = new LinkedHashMap<>();
+
+    /**
+     * Cómo crear los algoritmos que guardan estado entre llamadas.
+     */
+    private static final Map<String, Supplier<MazeSolver>> CON_ESTADO = new LinkedHashMap<>();
+
+    static {
+        SOLVERS.put("Recursivo", new MazeSolverRecursivo());
+        SOLVERS.put("Recursivo Completo", new MazeSolverRecursivoCompleto());
+        SOLVERS.put("Recursivo Completo BT", new MazeSolverRecursivoCompletoBT());
+        SOLVERS.put("BFS", new MazeSolverBFS());
+        SOLVERS.put("BFS Bidireccional", new MazeSolverBFSBidireccional());
+        SOLVERS.put("BFS Paralelo", new MazeSolverBFSParalelo());
+        SOLVERS.put("DFS", new MazeSolverDFS());
+        SOLVERS.put("A*", new MazeSolverAStar());
+        SOLVERS.put("JPS", new MazeSolverJPS());
+        SOLVERS.put("Dijkstra", new MazeSolverDijkstra());
+        SOLVERS.put("LPA*", new MazeSolverLPAStar());
+        SOLVERS.put("HPA*", new MazeSolverHPAStar());
+        SOLVERS.put("Campo de distancias", new MazeSolverCampoDistancias());
+
+        CON_ESTADO.put("LPA*", MazeSolverLPAStar::new);
+        CON_ESTADO.put("HPA*", MazeSolverHPAStar::new);
+        CON_ESTADO.put("Campo de distancias", MazeSolverCampoDistancias::new);
+    }
+
+    private MazeSolvers() {
+    }
+
+    /**
+     * Obtiene la instancia compartida de un algoritmo.
+     *
+     * @param nombre El nombre del algoritmo (por ejemplo, "BFS" o "A*").
+     * @return El solver con ese nombre, o el {@link #PREDETERMINADO} si el nombre no existe.
+     */
+    public static MazeSolver get(String nombre) {
+        MazeSolver solver = SOLVERS.get(nombre);
+        return solver != null ? solver : SOLVERS.get(PREDETERMINADO);
+    }
+
+    /**
+     * Obtiene un algoritmo para usarlo de forma independiente. Los que guardan estado entre
+     * llamadas se crean de nuevo, de modo que no compiten por el bloqueo ni por el estado de la
+     * instancia compartida; los demás son la instancia compartida.
+     *
+     * @param nombre El nombre del algoritmo.
+     * @return Un solver con ese nombre, o el {@link #PREDETERMINADO} si el nombre no existe.
+     */
+    public static MazeSolver nuevaInstancia(String nombre) {
+        Supplier<MazeSolver> fabrica = CON_ESTADO.get(nombre);
+        return fabrica != null ? fabrica.get() : get(nombre);
+    }
+
+    /**
+     * @return Los nombres de los algoritmos registrados, en el orden en que se muestran.
+     */
+    public static Set<String> nombres() {
+        return Collections.unmodifiableSet(SOLVERS.keySet());
+    }
+}
@@ -0,0 +1,148 @@
+package ec.edu.ups.Estructura.solver;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import ec.edu.ups.Estructura.models.MazeGrid;
+import ec.edu.ups.Estructura.models.SolveResult;
+
+/**
+ * Caché LRU de resultados de resolución, con clave (versión del laberinto, algoritmo, inicio, fin).
+ *
+ * La versión la lleva la propia {@link MazeGrid} y cambia con cada muro o terreno modificado,
+ * así que una edición invalida todas las entradas anteriores sin recorrer la caché: simplemente
+ * dejan de coincidir y terminan desalojadas por las nuevas. Cuando se consulta con otra
+ * cuadrícula, la caché se vacía.
+ *
+ * Los resultados se comparten entre llamadas, por lo que quien los reciba no debe modificarlos.
+ *
+ * @author Cristian Moscoso
+ */
+public final class SolveResultCache {
+    /**
+     * Número máximo de resultados guardados.
+     */
+    private final int capacidad;
+    /**
+     * Resultados en orden de acceso: el primero es el usado hace más tiempo.
+     */
+    private final LinkedHashMap<Clave, SolveResult> entradas;
+    /**
+     * Cuadrícula a la que corresponden las entradas.
+     */
+    private MazeGrid grid;
+    private long aciertos;
+    private long fallos;
+
+    /**
+     * Crea una caché vacía.
+     *
+     * @param capacidad El número máximo de resultados que se guardan.
+     */
+    public SolveResultCache(int capacidad) {
+        if (capacidad < 1)
+            throw new IllegalArgumentException("Capacidad no válida: " + capacidad);
+        this.capacidad = capacidad;
+        this.entradas = new LinkedHashMap<Clave, SolveResult>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Clave, SolveResult> eldest) {
+                return size() > SolveResultCache.this.capacidad;
+            }
+        };
+    }
+
+    /**
+     * Busca un resultado guardado y cuenta el acierto o el fallo.
+     *
+     * @return El resultado, o {@code null} si no está en la caché.
+     */
+    public synchronized SolveResult get(MazeGrid grid, String algoritmo, int start, int end) {
+        if (grid != this.grid) {
+            this.entradas.clear();
+            this.grid = grid;
+        }
+        SolveResult solveResult = this.entradas.get(new Clave(grid.getVersion(), algoritmo, start, end));
+        if (solveResult != null)
+            this.aciertos++;
+        else
+            this.fallos++;
+        return solveResult;
+    }
+
+    /**
+     * Guarda un resultado para la versión actual de la cuadrícula, desalojando el menos usado si
+     * se supera la capacidad. Conviene guardar solo resultados con camino, para no llenar la
+     * caché de búsquedas fallidas mientras se edita el laberinto.
+     */
+    public synchronized void put(MazeGrid grid, String algoritmo, int start, int end, SolveResult solveResult) {
+        if (grid != this.grid) {
+            this.entradas.clear();
+            this.grid = grid;
+        }
+        this.entradas.put(new Clave(grid.getVersion(), algoritmo, start, end), solveResult);
+    }
+
+    /**
+     * Vacía la caché y reinicia los contadores.
+     */
+    public synchronized void clear() {
+        this.entradas.clear();
+        this.aciertos = 0;
+        this.fallos = 0;
+    }
+
+    /**
+     * @return El número de consultas que encontraron un resultado guardado.
+     */
+    public synchronized long getAciertos() {
+        return this.aciertos;
+    }
+
+    /**
+     * @return El número de consultas que no encontraron un resultado guardado.
+     */
+    public synchronized long getFallos() {
+        return this.fallos;
+    }
+
+    /**
+     * @return El número de resultados guardados.
+     */
+    public synchronized int size() {
+        return this.entradas.size();
+    }
+
+    /**
+     * Clave de la caché.
+     */
+    private static final class Clave {
+        private final long version;
+        private final String algoritmo;
+        private final int start;
+        private final int end;
+
+        Clave(long version, String algoritmo, int start, int end) {
+            this.version = version;
+            this.algoritmo = algoritmo;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Clave))
+                return false;
+            Clave otra = (Clave) o;
+            return this.version == otra.version && this.start == otra.start && this.end == otra.end
+                    && this.algoritmo.equals(otra.algoritmo);
+        }
+
+        @Override
+        public int hashCode() {
+            int h = Long.hashCode(this.version);
+            h = 31 * h + this.algoritmo.hashCode();
+            h = 31 * h + this.start;
+            return 31 * h + this.end;
+        }
+    }
+}
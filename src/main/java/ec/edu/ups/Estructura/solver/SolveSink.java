@@ -0,0 +1,44 @@
+package ec.edu.ups.Estructura.solver;
+
+/**
+ * Receptor de los eventos de una búsqueda en modo continuo
+ * ({@link MazeSolver#solve(ec.edu.ups.Estructura.models.MazeGrid, int, int, SolveSink)}).
+ *
+ * En lugar de esperar a que el algoritmo termine y construya la lista completa de celdas
+ * visitadas, el solver avisa cada celda en cuanto la procesa, de modo que la interfaz puede
+ * empezar a dibujar de inmediato y la búsqueda no necesita guardar las celdas como objetos.
+ *
+ * Las celdas se identifican por su índice plano en la cuadrícula ({@code fila * columnas + columna}).
+ * Todos los métodos se llaman desde el hilo que invocó {@code solve}, en orden: primero las celdas
+ * visitadas, luego las del camino y por último {@link #finalizado(boolean)}.
+ *
+ * Un receptor puede interrumpir la búsqueda lanzando una excepción no comprobada (por ejemplo
+ * {@link java.util.concurrent.CancellationException}): la excepción sale de {@code solve} y el
+ * algoritmo queda en condiciones de atender la siguiente búsqueda.
+ *
+ * @author Cristian Moscoso
+ */
+public interface SolveSink {
+    /**
+     * Se llama cada vez que el algoritmo visita una celda, en el mismo orden que
+     * {@code SolveResult.visitadas}.
+     *
+     * @param celda El índice plano de la celda visitada.
+     */
+    void celdaVisitada(int celda);
+
+    /**
+     * Se llama por cada celda del camino encontrado, en el mismo orden que {@code SolveResult.camino}.
+     *
+     * @param celda El índice plano de la celda del camino.
+     */
+    void celdaDelCamino(int celda);
+
+    /**
+     * Se llama una vez al terminar la búsqueda.
+     *
+     * @param encontrado {@code true} si se encontró un camino.
+     */
+    default void finalizado(boolean encontrado) {
+    }
+}
@@ -0,0 +1,175 @@
+package ec.edu.ups.Estructura.solver.solverImpl;
+
+import java.util.Arrays;
+
+import ec.edu.ups.Estructura.models.MazeGrid;
+import ec.edu.ups.Estructura.solver.SolveSink;
+
+/**
+ * Motor de Búsqueda en Amplitud (BFS) sobre los índices planos de un {@link MazeGrid}.
+ *
+ * Todas sus estructuras son arreglos de enteros que se reutilizan entre búsquedas:
+ * la cola, el padre de cada celda y una marca de visita con "sello" por búsqueda,
+ * de modo que no hace falta limpiar nada entre llamadas y el ciclo principal no
+ * reserva memoria. Solo crece cuando se usa con una cuadrícula más grande que la anterior.
+ *
+ * Una instancia no es segura para usarse desde varios hilos a la vez.
+ */
+public class BfsEngine {
+    // Desplazamientos de fila y columna para los cuatro vecinos (abajo, arriba, derecha, izquierda).
+    private static final int[] DIR_FILA = { 1, -1, 0, 0 };
+    private static final int[] DIR_COL = { 0, 0, 1, -1 };
+
+    /**
+     * Cola de celdas en orden de descubrimiento. Cada celda entra una sola vez, así que
+     * nunca da la vuelta y su prefijo procesado es el orden de visita.
+     */
+    private int[] cola = new int[0];
+    /**
+     * Celda desde la que se descubrió cada celda (-1 para el inicio).
+     */
+    private int[] padre = new int[0];
+    /**
+     * Sello de la última búsqueda que visitó cada celda.
+     */
+    private int[] marca = new int[0];
+    /**
+     * Sello de la búsqueda actual; una celda está visitada si {@code marca[i] == sello}.
+     */
+    private int sello;
+    /**
+     * Número de celdas procesadas (desencoladas) en la última búsqueda.
+     */
+    private int numVisitadas;
+    /**
+     * Índice de la celda final de la última búsqueda.
+     */
+    private int destino = -1;
+
+    /**
+     * Ejecuta BFS desde {@code start} hasta {@code end}. La búsqueda se detiene al
+     * desencolar la celda final, igual que {@link MazeSolverBFS}.
+     *
+     * @param grid  La cuadrícula compacta del laberinto.
+     * @param start El índice de la celda de inicio.
+     * @param end   El índice de la celda final.
+     * @return {@code true} si se alcanzó la celda final.
+     */
+    public boolean buscar(MazeGrid grid, int start, int end) {
+        return buscar(grid, start, end, null);
+    }
+
+    /**
+     * Ejecuta BFS avisando a {@code sink} cada celda en el momento en que se procesa.
+     *
+     * @param grid  La cuadrícula compacta del laberinto.
+     * @param start El índice de la celda de inicio.
+     * @param end   El índice de la celda final.
+     * @param sink  El receptor de las celdas visitadas, o {@code null} para no avisar.
+     * @return {@code true} si se alcanzó la celda final.
+     */
+    public boolean buscar(MazeGrid grid, int start, int end, SolveSink sink) {
+        int rows = grid.getRows();
+        int cols = grid.getCols();
+        prepararPara(grid.size());
+
+        int[] cola = this.cola;
+        int[] padre = this.padre;
+        int[] marca = this.marca;
+        int sello = this.sello;
+        int cabeza = 0;
+        int fin = 0;
+
+        cola[fin++] = start;
+        marca[start] = sello;
+        padre[start] = -1;
+
+        while (cabeza < fin) {
+            int actual = cola[cabeza++];
+            if (sink != null)
+                sink.celdaVisitada(actual);
+            if (actual == end)
+                break;
+
+            int fila = actual / cols;
+            int col = actual - fila * cols;
+            for (int d = 0; d < 4; d++) {
+                int k = fila + DIR_FILA[d];
+                int m = col + DIR_COL[d];
+                if (k >= 0 && k < rows && m >= 0 && m < cols) {
+                    int vecino = k * cols + m;
+                    if (marca[vecino] != sello && !grid.isWall(vecino)) {
+                        marca[vecino] = sello;
+                        padre[vecino] = actual;
+                        cola[fin++] = vecino;
+                    }
+                }
+            }
+        }
+
+        this.numVisitadas = cabeza;
+        this.destino = end;
+        return marca[end] == sello;
+    }
+
+    /**
+     * Asegura la capacidad de los arreglos y avanza el sello de búsqueda.
+     *
+     * @param n El número de celdas de la cuadrícula.
+     */
+    private void prepararPara(int n) {
+        if (this.cola.length < n) {
+            this.cola = new int[n];
+            this.padre = new int[n];
+            this.marca = new int[n];
+            this.sello = 0;
+        }
+        if (this.sello == Integer.MAX_VALUE) {
+            // Al agotarse los sellos se reinician las marcas (ocurre una vez cada 2^31 búsquedas).
+            Arrays.fill(this.marca, 0);
+            this.sello = 0;
+        }
+        this.sello++;
+    }
+
+    /**
+     * @return El número de celdas procesadas en la última búsqueda.
+     */
+    public int getNumVisitadas() {
+        return this.numVisitadas;
+    }
+
+    /**
+     * @param index El índice de una celda.
+     * @return {@code true} si la última búsqueda descubrió la celda.
+     */
+    public boolean fueDescubierta(int index) {
+        return this.marca[index] == this.sello;
+    }
+
+    /**
+     * Copia el orden de visita de la última búsqueda.
+     *
+     * @return Los índices de las celdas procesadas, en orden.
+     */
+    public int[] copiarVisitadas() {
+        return Arrays.copyOf(this.cola, this.numVisitadas);
+    }
+
+    /**
+     * Copia el camino de la última búsqueda, desde el inicio hasta la celda final.
+     *
+     * @return Los índices del camino, o un arreglo vacío si no se alcanzó la celda final.
+     */
+    public int[] copiarCamino() {
+        if (this.destino < 0 || !fueDescubierta(this.destino))
+            return new int[0];
+        int largo = 0;
+        for (int c = this.destino; c != -1; c = this.padre[c])
+            largo++;
+        int[] camino = new int[largo];
+        for (int c = this.destino, i = largo - 1; c != -1; c = this.padre[c], i--)
+            camino[i] = c;
+        return camino;
+    }
+}
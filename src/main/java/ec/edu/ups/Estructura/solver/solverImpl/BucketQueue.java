@@ -0,0 +1,124 @@
+package ec.edu.ups.Estructura.solver.solverImpl;
+
+import java.util.Arrays;
+
+/**
+ * Cola de prioridad por cubetas (algoritmo de Dial) para distancias enteras pequeñas.
+ *
+ * Cuando el costo de cada paso está entre 1 y {@code C}, todas las distancias pendientes en
+ * Dijkstra caen en una ventana {@code [d, d + C]}, así que bastan {@code C + 1} cubetas usadas
+ * de forma circular. Cada cubeta es una lista doblemente enlazada guardada en arreglos de enteros
+ * indexados por celda, por lo que insertar, mover y extraer son O(1) (más el avance entre
+ * cubetas vacías, a lo sumo {@code C}) y no se crea ningún objeto.
+ */
+public class BucketQueue {
+    /**
+     * Primera celda de cada cubeta, o -1 si está vacía.
+     */
+    private int[] cabeza = new int[0];
+    /**
+     * Siguiente y anterior celda dentro de su cubeta.
+     */
+    private int[] sig = new int[0];
+    private int[] ant = new int[0];
+    /**
+     * Prioridad con la que está guardada cada celda, o -1 si no está en la cola.
+     */
+    private int[] prioridad = new int[0];
+    /**
+     * Número de cubetas ({@code C + 1}).
+     */
+    private int numCubetas;
+    /**
+     * Prioridad mínima posible de los elementos pendientes.
+     */
+    private int actual;
+    /**
+     * Número de elementos en la cola.
+     */
+    private int size;
+
+    /**
+     * Vacía la cola y la prepara para {@code n} celdas con costos de paso hasta {@code maxCost}.
+     *
+     * @param n       El número de celdas de la cuadrícula.
+     * @param maxCost El mayor costo de un paso.
+     */
+    public void reset(int n, int maxCost) {
+        if (this.prioridad.length < n) {
+            this.sig = new int[n];
+            this.ant = new int[n];
+            this.prioridad = new int[n];
+            Arrays.fill(this.prioridad, -1);
+        } else if (this.size > 0) {
+            for (int b = 0; b < this.numCubetas; b++) {
+                for (int c = this.cabeza[b]; c != -1; c = this.sig[c])
+                    this.prioridad[c] = -1;
+            }
+        }
+        this.numCubetas = maxCost + 1;
+        if (this.cabeza.length < this.numCubetas)
+            this.cabeza = new int[this.numCubetas];
+        Arrays.fill(this.cabeza, 0, this.numCubetas, -1);
+        this.actual = 0;
+        this.size = 0;
+    }
+
+    /**
+     * @return {@code true} si no quedan elementos.
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Inserta una celda o mueve su prioridad si ya estaba. La prioridad debe estar dentro de
+     * {@code [actual, actual + maxCost]}, lo que siempre se cumple en Dijkstra.
+     *
+     * @param node     El índice de la celda.
+     * @param priority Su distancia provisional.
+     */
+    public void push(int node, int priority) {
+        if (this.prioridad[node] >= 0)
+            desenlazar(node);
+        else
+            this.size++;
+        int b = priority % this.numCubetas;
+        this.prioridad[node] = priority;
+        this.ant[node] = -1;
+        this.sig[node] = this.cabeza[b];
+        if (this.cabeza[b] != -1)
+            this.ant[this.cabeza[b]] = node;
+        this.cabeza[b] = node;
+    }
+
+    /**
+     * Quita y devuelve una celda con la menor prioridad (la cola no debe estar vacía).
+     *
+     * @return El índice de la celda.
+     */
+    public int pop() {
+        int b = this.actual % this.numCubetas;
+        while (this.cabeza[b] == -1) {
+            this.actual++;
+            b = this.actual % this.numCubetas;
+        }
+        int node = this.cabeza[b];
+        desenlazar(node);
+        this.prioridad[node] = -1;
+        this.size--;
+        return node;
+    }
+
+    private void desenlazar(int node) {
+        int b = this.prioridad[node] % this.numCubetas;
+        int s = this.sig[node];
+        int a = this.ant[node];
+        if (a != -1)
+            this.sig[a] = s;
+        else
+            this.cabeza[b] = s;
+        if (s != -1)
+            this.ant[s] = a;
+    }
+}
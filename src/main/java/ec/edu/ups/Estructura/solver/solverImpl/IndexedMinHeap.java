@@ -0,0 +1,185 @@
+package ec.edu.ups.Estructura.solver.solverImpl;
+
+import java.util.Arrays;
+
+/**
+ * Montículo binario mínimo de índices de celda con prioridad {@code long}.
+ *
+ * Cada celda aparece como máximo una vez y se puede localizar en O(1) a través de
+ * {@code posicion}, lo que permite cambiar su prioridad o quitarla sin búsquedas lineales.
+ * Todo se guarda en arreglos primitivos que se reutilizan entre búsquedas.
+ */
+public class IndexedMinHeap {
+    /**
+     * Los índices de celda en orden de montículo.
+     */
+    private int[] heap = new int[0];
+    /**
+     * Posición de cada celda dentro de {@code heap}, o -1 si no está.
+     */
+    private int[] posicion = new int[0];
+    /**
+     * Prioridad actual de cada celda que está en el montículo.
+     */
+    private long[] prioridad = new long[0];
+    /**
+     * Número de elementos en el montículo.
+     */
+    private int size;
+
+    /**
+     * Vacía el montículo y asegura espacio para {@code n} celdas.
+     *
+     * @param n El número de celdas de la cuadrícula.
+     */
+    public void reset(int n) {
+        if (this.posicion.length < n) {
+            this.heap = new int[n];
+            this.posicion = new int[n];
+            this.prioridad = new long[n];
+            Arrays.fill(this.posicion, -1);
+        } else {
+            for (int i = 0; i < this.size; i++)
+                this.posicion[this.heap[i]] = -1;
+        }
+        this.size = 0;
+    }
+
+    /**
+     * @return {@code true} si no quedan elementos.
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * @return El número de elementos.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * @param node El índice de una celda.
+     * @return {@code true} si la celda está en el montículo.
+     */
+    public boolean contains(int node) {
+        return this.posicion[node] >= 0;
+    }
+
+    /**
+     * @param node El índice de una celda que está en el montículo.
+     * @return Su prioridad actual.
+     */
+    public long priorityOf(int node) {
+        return this.prioridad[node];
+    }
+
+    /**
+     * @return La menor prioridad del montículo (no debe estar vacío).
+     */
+    public long peekPriority() {
+        return this.prioridad[this.heap[0]];
+    }
+
+    /**
+     * @return La celda con menor prioridad, sin quitarla (no debe estar vacío).
+     */
+    public int peek() {
+        return this.heap[0];
+    }
+
+    /**
+     * Inserta una celda o, si ya estaba, cambia su prioridad (hacia arriba o hacia abajo).
+     *
+     * @param node     El índice de la celda.
+     * @param priority La nueva prioridad.
+     */
+    public void push(int node, long priority) {
+        int i = this.posicion[node];
+        if (i < 0) {
+            i = this.size++;
+            this.heap[i] = node;
+            this.posicion[node] = i;
+            this.prioridad[node] = priority;
+            subir(i);
+        } else {
+            long anterior = this.prioridad[node];
+            this.prioridad[node] = priority;
+            if (priority < anterior)
+                subir(i);
+            else
+                bajar(i);
+        }
+    }
+
+    /**
+     * Quita y devuelve la celda de menor prioridad (no debe estar vacío).
+     *
+     * @return El índice de la celda.
+     */
+    public int pop() {
+        int raiz = this.heap[0];
+        quitarEn(0);
+        return raiz;
+    }
+
+    /**
+     * Quita una celda del montículo si está en él.
+     *
+     * @param node El índice de la celda.
+     */
+    public void remove(int node) {
+        int i = this.posicion[node];
+        if (i >= 0)
+            quitarEn(i);
+    }
+
+    private void quitarEn(int i) {
+        int node = this.heap[i];
+        this.posicion[node] = -1;
+        int ultimo = this.heap[--this.size];
+        if (i == this.size)
+            return;
+        this.heap[i] = ultimo;
+        this.posicion[ultimo] = i;
+        subir(i);
+        bajar(this.posicion[ultimo]);
+    }
+
+    private void subir(int i) {
+        int node = this.heap[i];
+        long p = this.prioridad[node];
+        while (i > 0) {
+            int padre = (i - 1) >>> 1;
+            int nodoPadre = this.heap[padre];
+            if (this.prioridad[nodoPadre] <= p)
+                break;
+            this.heap[i] = nodoPadre;
+            this.posicion[nodoPadre] = i;
+            i = padre;
+        }
+        this.heap[i] = node;
+        this.posicion[node] = i;
+    }
+
+    private void bajar(int i) {
+        int node = this.heap[i];
+        long p = this.prioridad[node];
+        int mitad = this.size >>> 1;
+        while (i < mitad) {
+            int hijo = 2 * i + 1;
+            int derecho = hijo + 1;
+            if (derecho < this.size && this.prioridad[this.heap[derecho]] < this.prioridad[this.heap[hijo]])
+                hijo = derecho;
+            int nodoHijo = this.heap[hijo];
+            if (p <= this.prioridad[nodoHijo])
+                break;
+            this.heap[i] = nodoHijo;
+            this.posicion[nodoHijo] = i;
+            i = hijo;
+        }
+        this.heap[i] = node;
+        this.posicion[node] = i;
+    }
+}
@@ -0,0 +1,180 @@
+package ec.edu.ups.Estructura.solver.solverImpl;
+
+import java.util.Arrays;
+
+import ec.edu.ups.Estructura.models.Cell;
+import ec.edu.ups.Estructura.models.MazeGrid;
+import ec.edu.ups.Estructura.models.SolveResult;
+import ec.edu.ups.Estructura.solver.MazeSolver;
+import ec.edu.ups.Estructura.solver.SolveSink;
+
+/**
+ * `MazeSolverAStar` implementa la interfaz `MazeSolver` con el algoritmo A*.
+ * Usa la distancia Manhattan hasta la celda final como heurística, que es admisible y
+ * consistente en una cuadrícula de 4 direcciones con costo 1, por lo que el camino
+ * devuelto es siempre el más corto.
+ *
+ * La frontera es un {@link IndexedMinHeap} cuya prioridad combina {@code f = g + h} en los
+ * 32 bits altos y {@code h} en los bajos: entre celdas con el mismo {@code f} se expande
+ * primero la más cercana al destino, lo que evita explorar las muchas rutas equivalentes
+ * que hay en un laberinto abierto.
+ */
+public class MazeSolverAStar implements MazeSolver {
+
+    // Desplazamientos de fila y columna para los cuatro vecinos (abajo, arriba, derecha, izquierda).
+    private static final int[] DIR_FILA = { 1, -1, 0, 0 };
+    private static final int[] DIR_COL = { 0, 0, 1, -1 };
+
+    /**
+     * Encuentra el camino más corto desde la celda de inicio hasta la celda final usando A*.
+     *
+     * @param paramArrayOfCell Un arreglo 2D de objetos `Cell` que representa la cuadrícula del laberinto.
+     * @param paramCell1 La `Cell` de inicio.
+     * @param paramCell2 La `Cell` final.
+     * @return Un objeto `SolveResult` con las celdas expandidas y el camino más corto (vacío si no existe).
+     */
+    @Override
+    public SolveResult getPath(Cell[][] paramArrayOfCell, Cell paramCell1, Cell paramCell2) {
+        MazeGrid grid = MazeGrid.fromCells(paramArrayOfCell);
+        return getPath(grid, grid.index(paramCell1.row, paramCell1.col), grid.index(paramCell2.row, paramCell2.col));
+    }
+
+    /**
+     * Ejecuta A* sobre los índices planos de la cuadrícula compacta.
+     *
+     * @param grid  La cuadrícula compacta del laberinto.
+     * @param start El índice de la celda de inicio.
+     * @param end   El índice de la celda final.
+     * @return Un objeto `SolveResult` con las celdas expandidas (en orden) y el camino más corto.
+     */
+    @Override
+    public SolveResult getPath(MazeGrid grid, int start, int end) {
+        SolverWorkspace ws = SolverWorkspace.actual();
+        int sello = buscar(grid, start, end, ws, null);
+        int[] visitadas = Arrays.copyOf(ws.orden, ws.numOrden);
+        int[] camino = reconstruir(ws, end, sello);
+        return new SolveResult(grid.cellList(visitadas, visitadas.length), grid.cellList(camino, camino.length));
+    }
+
+    /**
+     * Ejecuta A* avisando a {@code sink} cada celda en el momento en que se expande.
+     *
+     * @param grid  La cuadrícula compacta del laberinto.
+     * @param start El índice de la celda de inicio.
+     * @param end   El índice de la celda final.
+     * @param sink  El receptor de los eventos.
+     * @return {@code true} si se encontró un camino.
+     */
+    @Override
+    public boolean solve(MazeGrid grid, int start, int end, SolveSink sink) {
+        SolverWorkspace ws = SolverWorkspace.actual();
+        int sello = buscar(grid, start, end, ws, sink);
+        int[] camino = reconstruir(ws, end, sello);
+        for (int celda : camino)
+            sink.celdaDelCamino(celda);
+        sink.finalizado(camino.length > 0);
+        return camino.length > 0;
+    }
+
+    /**
+     * Ciclo principal de A*. Deja el orden de visita en {@code ws.orden} y los padres en
+     * {@code ws.padre}.
+     *
+     * @param grid  La cuadrícula compacta del laberinto.
+     * @param start El índice de la celda de inicio.
+     * @param end   El índice de la celda final.
+     * @param ws    El espacio de trabajo del hilo.
+     * @param sink  El receptor de las celdas visitadas, o {@code null} para no avisar.
+     * @return El sello de la búsqueda.
+     */
+    private static int buscar(MazeGrid grid, int start, int end, SolverWorkspace ws, SolveSink sink) {
+        int rows = grid.getRows();
+        int cols = grid.getCols();
+        // Montículo, costos, padres y marcas con sello vienen del espacio de trabajo del hilo.
+        IndexedMinHeap frontera = ws.monticulo;
+        frontera.reset(grid.size());
+        int sello = ws.prepararPara(grid.size());
+        int[] costo = ws.costo;
+        int[] padre = ws.padre;
+        int[] vista = ws.vista;
+        int[] cerrada = ws.cerrada;
+        int[] expandidas = ws.orden;
+
+        int filaFin = end / cols;
+        int colFin = end % cols;
+        int numExpandidas = 0;
+
+        costo[start] = 0;
+        padre[start] = -1;
+        vista[start] = sello;
+        frontera.push(start, prioridad(0, heuristica(start / cols, start % cols, filaFin, colFin)));
+
+        while (!frontera.isEmpty()) {
+            int actual = frontera.pop();
+            cerrada[actual] = sello;
+            expandidas[numExpandidas++] = actual;
+            if (sink != null)
+                sink.celdaVisitada(actual);
+            if (actual == end)
+                break;
+
+            int fila = actual / cols;
+            int col = actual - fila * cols;
+            int g = costo[actual] + 1;
+            for (int d = 0; d < 4; d++) {
+                int k = fila + DIR_FILA[d];
+                int m = col + DIR_COL[d];
+                if (k < 0 || k >= rows || m < 0 || m >= cols)
+                    continue;
+                int vecino = k * cols + m;
+                // Con una heurística consistente una celda cerrada ya tiene su costo óptimo.
+                if (cerrada[vecino] == sello || grid.isWall(vecino))
+                    continue;
+                if (vista[vecino] != sello || g < costo[vecino]) {
+                    vista[vecino] = sello;
+                    costo[vecino] = g;
+                    padre[vecino] = actual;
+                    frontera.push(vecino, prioridad(g, heuristica(k, m, filaFin, colFin)));
+                }
+            }
+        }
+
+        ws.numOrden = numExpandidas;
+        return sello;
+    }
+
+    /**
+     * Distancia Manhattan entre dos celdas.
+     */
+    private static int heuristica(int fila, int col, int filaFin, int colFin) {
+        return Math.abs(fila - filaFin) + Math.abs(col - colFin);
+    }
+
+    /**
+     * Codifica la prioridad de una celda: primero {@code f = g + h}, y a igual {@code f}, menor {@code h}.
+     */
+    private static long prioridad(int g, int h) {
+        return ((long) (g + h) << 32) | h;
+    }
+
+    /**
+     * Reconstruye el camino desde el inicio hasta {@code end} siguiendo los padres.
+     *
+     * @param ws    El espacio de trabajo con los padres de la búsqueda.
+     * @param end   El índice de la celda final.
+     * @param sello El sello de la búsqueda.
+     * @return Los índices del camino, o un arreglo vacío si la celda final no se cerró.
+     */
+    private static int[] reconstruir(SolverWorkspace ws, int end, int sello) {
+        int[] padre = ws.padre;
+        if (ws.cerrada[end] != sello)
+            return new int[0];
+        int largo = 0;
+        for (int c = end; c != -1; c = padre[c])
+            largo++;
+        int[] camino = new int[largo];
+        for (int c = end, i = largo - 1; c != -1; c = padre[c], i--)
+            camino[i] = c;
+        return camino;
+    }
+}
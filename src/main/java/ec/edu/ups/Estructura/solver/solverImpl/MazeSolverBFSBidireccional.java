@@ -0,0 +1,264 @@
+package ec.edu.ups.Estructura.solver.solverImpl;
+
+import java.util.Arrays;
+
+import ec.edu.ups.Estructura.models.Cell;
+import ec.edu.ups.Estructura.models.MazeGrid;
+import ec.edu.ups.Estructura.models.SolveResult;
+import ec.edu.ups.Estructura.solver.MazeSolver;
+import ec.edu.ups.Estructura.solver.SolveSink;
+
+/**
+ * `MazeSolverBFSBidireccional` implementa la interfaz `MazeSolver` con una Búsqueda en Amplitud
+ * bidireccional: avanza un nivel completo desde la celda de inicio y luego uno desde la celda final,
+ * alternando, hasta que las dos fronteras se tocan.
+ *
+ * Cuando dos celdas a distancia d del origen se encuentran, cada búsqueda solo cubre un radio de
+ * aproximadamente d/2, por lo que en corredores largos se explora cerca de la mitad de celdas que
+ * con {@link MazeSolverBFS}. Al terminar el nivel en que se produce el primer encuentro se elige la
+ * unión de menor longitud, de modo que el camino devuelto sigue siendo el más corto.
+ */
+public class MazeSolverBFSBidireccional implements MazeSolver {
+
+    // Desplazamientos de fila y columna para los cuatro vecinos (abajo, arriba, derecha, izquierda).
+    private static final int[] DIR_FILA = { 1, -1, 0, 0 };
+    private static final int[] DIR_COL = { 0, 0, 1, -1 };
+
+    // Espacio de trabajo de cada hilo; se reutiliza de una búsqueda a otra.
+    private static final ThreadLocal<Busqueda> BUSQUEDAS = ThreadLocal.withInitial(Busqueda::new);
+
+    /**
+     * Encuentra el camino más corto desde la celda de inicio hasta la celda final con BFS bidireccional.
+     *
+     * @param paramArrayOfCell Un arreglo 2D de objetos `Cell` que representa la cuadrícula del laberinto.
+     * @param paramCell1 La `Cell` de inicio.
+     * @param paramCell2 La `Cell` final.
+     * @return Un objeto `SolveResult` con las celdas procesadas por ambas fronteras y el camino más corto.
+     */
+    @Override
+    public SolveResult getPath(Cell[][] paramArrayOfCell, Cell paramCell1, Cell paramCell2) {
+        MazeGrid grid = MazeGrid.fromCells(paramArrayOfCell);
+        return getPath(grid, grid.index(paramCell1.row, paramCell1.col), grid.index(paramCell2.row, paramCell2.col));
+    }
+
+    /**
+     * Ejecuta la búsqueda bidireccional sobre los índices planos de la cuadrícula compacta.
+     *
+     * @param grid  La cuadrícula compacta del laberinto.
+     * @param start El índice de la celda de inicio.
+     * @param end   El índice de la celda final.
+     * @return Un objeto `SolveResult` con las celdas visitadas por ambas fronteras y el camino más corto.
+     */
+    @Override
+    public SolveResult getPath(MazeGrid grid, int start, int end) {
+        Busqueda busqueda = BUSQUEDAS.get();
+        int[] camino = busqueda.buscar(grid, start, end, null);
+        int[] visitadas = Arrays.copyOf(busqueda.orden, busqueda.numOrden);
+        return new SolveResult(grid.cellList(visitadas, visitadas.length), grid.cellList(camino, camino.length));
+    }
+
+    /**
+     * Ejecuta la búsqueda bidireccional avisando a {@code sink} cada celda en el momento en que
+     * la expande cualquiera de las dos fronteras.
+     *
+     * @param grid  La cuadrícula compacta del laberinto.
+     * @param start El índice de la celda de inicio.
+     * @param end   El índice de la celda final.
+     * @param sink  El receptor de los eventos.
+     * @return {@code true} si se encontró un camino.
+     */
+    @Override
+    public boolean solve(MazeGrid grid, int start, int end, SolveSink sink) {
+        int[] camino = BUSQUEDAS.get().buscar(grid, start, end, sink);
+        for (int celda : camino)
+            sink.celdaDelCamino(celda);
+        sink.finalizado(camino.length > 0);
+        return camino.length > 0;
+    }
+
+    /**
+     * Arreglos de trabajo de un hilo. Cada hilo usa su propia instancia, de modo que el solver
+     * no tiene estado y varias búsquedas pueden ejecutarse a la vez.
+     */
+    private static final class Busqueda {
+        // Estado de la búsqueda desde el inicio (sufijo `Ini`) y desde el final (sufijo `Fin`).
+        private int[] colaIni = new int[0];
+        private int[] colaFin = new int[0];
+        private int[] padreIni = new int[0];
+        private int[] padreFin = new int[0];
+        private int[] distIni = new int[0];
+        private int[] distFin = new int[0];
+        private int[] marcaIni = new int[0];
+        private int[] marcaFin = new int[0];
+        private int sello;
+
+        // `orden` combina las celdas procesadas por ambas búsquedas en el orden en que se expandieron.
+        private int[] orden = new int[0];
+        private int numOrden;
+
+        // Mejor unión encontrada: la arista (`unionIni`, `unionFin`) y la longitud total del camino.
+        private int unionIni;
+        private int unionFin;
+        private int mejorLargo;
+
+        // Receptor de las celdas expandidas durante la búsqueda actual, o `null`.
+        private SolveSink sink;
+
+        /**
+         * Ejecuta la búsqueda bidireccional con los arreglos de este espacio de trabajo. Las celdas
+         * expandidas quedan en {@code orden}.
+         *
+         * @param grid  La cuadrícula compacta del laberinto.
+         * @param start El índice de la celda de inicio.
+         * @param end   El índice de la celda final.
+         * @param sink  El receptor de las celdas expandidas, o {@code null} para no avisar.
+         * @return Los índices del camino más corto, o un arreglo vacío si no existe.
+         */
+        int[] buscar(MazeGrid grid, int start, int end, SolveSink sink) {
+            prepararPara(grid.size());
+            if (start == end) {
+                this.orden[this.numOrden++] = start;
+                if (sink != null)
+                    sink.celdaVisitada(start);
+                return new int[] { start };
+            }
+            this.sink = sink;
+
+            int sello = this.sello;
+            int cabezaIni = 0, finIni = 0, cabezaFin = 0, finFin = 0;
+            this.colaIni[finIni++] = start;
+            this.marcaIni[start] = sello;
+            this.padreIni[start] = -1;
+            this.distIni[start] = 0;
+            // Si el destino es un muro no hay nada que buscar desde ese lado.
+            if (!grid.isWall(end)) {
+                this.colaFin[finFin++] = end;
+                this.marcaFin[end] = sello;
+                this.padreFin[end] = -1;
+                this.distFin[end] = 0;
+            }
+
+            boolean turnoIni = true;
+            while (cabezaIni < finIni && cabezaFin < finFin && this.mejorLargo == Integer.MAX_VALUE) {
+                if (turnoIni) {
+                    int limite = finIni;
+                    finIni = expandirNivel(grid, cabezaIni, limite, finIni, this.colaIni, this.padreIni, this.distIni,
+                            this.marcaIni, this.distFin, this.marcaFin, true);
+                    cabezaIni = limite;
+                } else {
+                    int limite = finFin;
+                    finFin = expandirNivel(grid, cabezaFin, limite, finFin, this.colaFin, this.padreFin, this.distFin,
+                            this.marcaFin, this.distIni, this.marcaIni, false);
+                    cabezaFin = limite;
+                }
+                turnoIni = !turnoIni;
+            }
+
+            this.sink = null;
+            return reconstruir();
+        }
+
+        /**
+         * Expande un nivel completo de una de las búsquedas. Si un vecino ya fue alcanzado por la
+         * búsqueda opuesta se registra como posible unión en lugar de encolarlo.
+         *
+         * @param grid       La cuadrícula compacta.
+         * @param cabeza     Primera posición del nivel en la cola.
+         * @param limite     Posición siguiente a la última celda del nivel.
+         * @param fin        Siguiente posición libre de la cola.
+         * @param cola       La cola de esta búsqueda.
+         * @param padre      Los padres de esta búsqueda.
+         * @param dist       Las distancias de esta búsqueda.
+         * @param marca      Las marcas de visita de esta búsqueda.
+         * @param distOtra   Las distancias de la búsqueda opuesta.
+         * @param marcaOtra  Las marcas de visita de la búsqueda opuesta.
+         * @param desdeIni   {@code true} si esta es la búsqueda que parte del inicio.
+         * @return La nueva posición libre de la cola.
+         */
+        private int expandirNivel(MazeGrid grid, int cabeza, int limite, int fin, int[] cola, int[] padre, int[] dist,
+                                  int[] marca, int[] distOtra, int[] marcaOtra, boolean desdeIni) {
+            int rows = grid.getRows();
+            int cols = grid.getCols();
+            int sello = this.sello;
+            for (int i = cabeza; i < limite; i++) {
+                int actual = cola[i];
+                this.orden[this.numOrden++] = actual;
+                if (this.sink != null)
+                    this.sink.celdaVisitada(actual);
+                int fila = actual / cols;
+                int col = actual - fila * cols;
+                for (int d = 0; d < 4; d++) {
+                    int k = fila + DIR_FILA[d];
+                    int m = col + DIR_COL[d];
+                    if (k < 0 || k >= rows || m < 0 || m >= cols)
+                        continue;
+                    int vecino = k * cols + m;
+                    if (grid.isWall(vecino))
+                        continue;
+                    if (marcaOtra[vecino] == sello) {
+                        // Las fronteras se tocan: camino de largo dist + 1 + distOtra (+1 celda inicial).
+                        int largo = dist[actual] + 1 + distOtra[vecino] + 1;
+                        if (largo < this.mejorLargo) {
+                            this.mejorLargo = largo;
+                            this.unionIni = desdeIni ? actual : vecino;
+                            this.unionFin = desdeIni ? vecino : actual;
+                        }
+                    } else if (marca[vecino] != sello) {
+                        marca[vecino] = sello;
+                        padre[vecino] = actual;
+                        dist[vecino] = dist[actual] + 1;
+                        cola[fin++] = vecino;
+                    }
+                }
+            }
+            return fin;
+        }
+
+        /**
+         * Une las dos mitades del camino: desde el inicio hasta {@code unionIni} y desde
+         * {@code unionFin} hasta el final.
+         *
+         * @return Los índices del camino, o un arreglo vacío si las fronteras no se encontraron.
+         */
+        private int[] reconstruir() {
+            if (this.mejorLargo == Integer.MAX_VALUE)
+                return new int[0];
+            int[] camino = new int[this.mejorLargo];
+            int i = this.distIni[this.unionIni];
+            for (int c = this.unionIni; c != -1; c = this.padreIni[c])
+                camino[i--] = c;
+            i = this.distIni[this.unionIni] + 1;
+            for (int c = this.unionFin; c != -1; c = this.padreFin[c])
+                camino[i++] = c;
+            return camino;
+        }
+
+        /**
+         * Asegura la capacidad de los arreglos de trabajo, avanza el sello y reinicia la búsqueda.
+         *
+         * @param n El número de celdas de la cuadrícula.
+         */
+        private void prepararPara(int n) {
+            if (this.colaIni.length < n) {
+                this.colaIni = new int[n];
+                this.colaFin = new int[n];
+                this.padreIni = new int[n];
+                this.padreFin = new int[n];
+                this.distIni = new int[n];
+                this.distFin = new int[n];
+                this.marcaIni = new int[n];
+                this.marcaFin = new int[n];
+                this.orden = new int[n];
+                this.sello = 0;
+            }
+            if (this.sello == Integer.MAX_VALUE) {
+                Arrays.fill(this.marcaIni, 0);
+                Arrays.fill(this.marcaFin, 0);
+                this.sello = 0;
+            }
+            this.sello++;
+            this.numOrden = 0;
+            this.mejorLargo = Integer.MAX_VALUE;
+        }
+    }
+}
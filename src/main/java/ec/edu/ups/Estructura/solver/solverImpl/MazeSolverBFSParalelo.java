@@ -0,0 +1,322 @@
+package ec.edu.ups.Estructura.solver.solverImpl;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import ec.edu.ups.Estructura.models.Cell;
+import ec.edu.ups.Estructura.models.MazeGrid;
+import ec.edu.ups.Estructura.models.SolveResult;
+import ec.edu.ups.Estructura.solver.MazeSolver;
+import ec.edu.ups.Estructura.solver.SolveSink;
+
+/**
+ * `MazeSolverBFSParalelo` implementa la interfaz `MazeSolver` con una Búsqueda en Amplitud
+ * sincronizada por niveles que expande cada frontera en paralelo con fork/join.
+ *
+ * La frontera de cada nivel se divide en bloques; cada tarea revisa los vecinos de su bloque y
+ * reclama las celdas nuevas con una operación atómica sobre {@code marca}, de modo que cada celda
+ * entra en el siguiente nivel una sola vez. Como los niveles se procesan en orden, la celda final
+ * se alcanza a la misma distancia que con {@link MazeSolverBFS} y el camino tiene la misma longitud
+ * (aunque, entre caminos igual de cortos, puede elegir otro).
+ *
+ * Por defecto los niveles se expanden en {@link ForkJoinPool#commonPool()}, así que la instancia
+ * compartida de {@code MazeSolvers} no mantiene hilos propios. Si se pide otro paralelismo, el
+ * solver crea su propio grupo de hilos, que se libera con {@link #close()}.
+ */
+public class MazeSolverBFSParalelo implements MazeSolver, AutoCloseable {
+
+    // Desplazamientos de fila y columna para los cuatro vecinos (abajo, arriba, derecha, izquierda).
+    private static final int[] DIR_FILA = { 1, -1, 0, 0 };
+    private static final int[] DIR_COL = { 0, 0, 1, -1 };
+
+    /**
+     * Número de celdas de frontera por debajo del cual una tarea ya no se divide.
+     */
+    private static final int UMBRAL = 2048;
+
+    /**
+     * Grupo de hilos donde se expanden los niveles.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Indica si {@link #pool} lo creó este solver y, por tanto, debe cerrarlo.
+     */
+    private final boolean poolPropio;
+
+    // Espacio de trabajo de cada hilo que llama al solver; se reutiliza de una búsqueda a otra.
+    private static final ThreadLocal<Busqueda> BUSQUEDAS = ThreadLocal.withInitial(Busqueda::new);
+
+    /**
+     * Crea el solver sobre el grupo común de fork/join.
+     */
+    public MazeSolverBFSParalelo() {
+        this(ForkJoinPool.getCommonPoolParallelism());
+    }
+
+    /**
+     * Crea el solver con un nivel de paralelismo concreto. Si coincide con el del grupo común,
+     * usa ese grupo; si no, crea uno propio que debe liberarse con {@link #close()}.
+     *
+     * @param paralelismo El número de hilos que expanden cada nivel (al menos 1).
+     */
+    public MazeSolverBFSParalelo(int paralelismo) {
+        int hilos = Math.max(1, paralelismo);
+        this.poolPropio = hilos != ForkJoinPool.getCommonPoolParallelism();
+        this.pool = this.poolPropio ? new ForkJoinPool(hilos) : ForkJoinPool.commonPool();
+    }
+
+    /**
+     * @return El número de hilos usados para expandir cada nivel.
+     */
+    public int getParalelismo() {
+        return this.pool.getParallelism();
+    }
+
+    /**
+     * Cierra el grupo de hilos propio, si lo hay; el grupo común no se toca.
+     * Después de cerrarlo el solver ya no puede usarse.
+     */
+    @Override
+    public void close() {
+        if (this.poolPropio)
+            this.pool.shutdown();
+    }
+
+    /**
+     * Encuentra el camino más corto desde la celda de inicio hasta la celda final con BFS paralelo.
+     *
+     * @param paramArrayOfCell Un arreglo 2D de objetos `Cell` que representa la cuadrícula del laberinto.
+     * @param paramCell1 La `Cell` de inicio.
+     * @param paramCell2 La `Cell` final.
+     * @return Un objeto `SolveResult` con las celdas visitadas nivel por nivel y un camino más corto.
+     */
+    @Override
+    public SolveResult getPath(Cell[][] paramArrayOfCell, Cell paramCell1, Cell paramCell2) {
+        MazeGrid grid = MazeGrid.fromCells(paramArrayOfCell);
+        return getPath(grid, grid.index(paramCell1.row, paramCell1.col), grid.index(paramCell2.row, paramCell2.col));
+    }
+
+    /**
+     * Ejecuta el BFS paralelo sobre los índices planos de la cuadrícula compacta.
+     *
+     * @param grid  La cuadrícula compacta del laberinto.
+     * @param start El índice de la celda de inicio.
+     * @param end   El índice de la celda final.
+     * @return Un objeto `SolveResult` con las celdas visitadas nivel por nivel y un camino más corto.
+     */
+    @Override
+    public SolveResult getPath(MazeGrid grid, int start, int end) {
+        Busqueda busqueda = BUSQUEDAS.get();
+        int[] camino = busqueda.buscar(this.pool, grid, start, end, null);
+        int[] visitadas = Arrays.copyOf(busqueda.orden, busqueda.numOrden);
+        return new SolveResult(grid.cellList(visitadas, visitadas.length), grid.cellList(camino, camino.length));
+    }
+
+    /**
+     * Ejecuta el BFS paralelo avisando a {@code sink} las celdas de cada nivel antes de expandirlo.
+     * Los avisos se hacen desde el hilo que llama, nunca desde las tareas del grupo.
+     *
+     * @param grid  La cuadrícula compacta del laberinto.
+     * @param start El índice de la celda de inicio.
+     * @param end   El índice de la celda final.
+     * @param sink  El receptor de los eventos.
+     * @return {@code true} si se encontró un camino.
+     */
+    @Override
+    public boolean solve(MazeGrid grid, int start, int end, SolveSink sink) {
+        int[] camino = BUSQUEDAS.get().buscar(this.pool, grid, start, end, sink);
+        for (int celda : camino)
+            sink.celdaDelCamino(celda);
+        sink.finalizado(camino.length > 0);
+        return camino.length > 0;
+    }
+
+    /**
+     * Arreglos de trabajo del hilo que llama al solver. Las tareas de un nivel los comparten,
+     * pero cada llamada a {@link #getPath(MazeGrid, int, int)} usa los de su propio hilo.
+     */
+    private static final class Busqueda {
+        // Marca atómica de visita con sello por búsqueda, y padre de cada celda.
+        private AtomicIntegerArray marca = new AtomicIntegerArray(0);
+        private int[] padre = new int[0];
+        private int sello;
+
+        // Frontera actual y siguiente, y orden de visita acumulado.
+        private int[] frontera = new int[0];
+        private int[] siguiente = new int[0];
+        private int[] orden = new int[0];
+        private int numOrden;
+
+        /**
+         * Ejecuta el BFS paralelo con los arreglos de este espacio de trabajo. Las celdas visitadas,
+         * nivel por nivel, quedan en {@code orden}.
+         *
+         * @param pool  El grupo de hilos donde se expanden los niveles.
+         * @param grid  La cuadrícula compacta del laberinto.
+         * @param start El índice de la celda de inicio.
+         * @param end   El índice de la celda final.
+         * @param sink  El receptor de las celdas visitadas, o {@code null} para no avisar.
+         * @return Los índices de un camino más corto, o un arreglo vacío si no existe.
+         */
+        int[] buscar(ForkJoinPool pool, MazeGrid grid, int start, int end, SolveSink sink) {
+            prepararPara(grid.size());
+            int sello = this.sello;
+
+            this.marca.set(start, sello);
+            this.padre[start] = -1;
+            this.frontera[0] = start;
+            int tamFrontera = 1;
+            int numOrden = 0;
+
+            while (tamFrontera > 0 && this.marca.get(end) != sello) {
+                // El nivel actual queda registrado como visitado antes de expandirlo.
+                System.arraycopy(this.frontera, 0, this.orden, numOrden, tamFrontera);
+                numOrden += tamFrontera;
+                if (sink != null) {
+                    for (int i = 0; i < tamFrontera; i++)
+                        sink.celdaVisitada(this.frontera[i]);
+                }
+
+                Bloque nuevos = pool.invoke(new ExpandirNivel(this, grid, this.frontera, 0, tamFrontera));
+                int tamSiguiente = 0;
+                for (Bloque b = nuevos; b != null; b = b.sig) {
+                    System.arraycopy(b.celdas, 0, this.siguiente, tamSiguiente, b.n);
+                    tamSiguiente += b.n;
+                }
+
+                int[] tmp = this.frontera;
+                this.frontera = this.siguiente;
+                this.siguiente = tmp;
+                tamFrontera = tamSiguiente;
+            }
+
+            // Como en BFS, la celda final cierra la lista de visitadas cuando se alcanza.
+            int[] camino = new int[0];
+            if (this.marca.get(end) == sello) {
+                this.orden[numOrden++] = end;
+                if (sink != null)
+                    sink.celdaVisitada(end);
+                int largo = 0;
+                for (int c = end; c != -1; c = this.padre[c])
+                    largo++;
+                camino = new int[largo];
+                for (int c = end, i = largo - 1; c != -1; c = this.padre[c], i--)
+                    camino[i] = c;
+            }
+            this.numOrden = numOrden;
+            return camino;
+        }
+
+        /**
+         * Asegura la capacidad de los arreglos de trabajo y avanza el sello de búsqueda.
+         *
+         * @param n El número de celdas de la cuadrícula.
+         */
+        private void prepararPara(int n) {
+            if (this.padre.length < n) {
+                this.marca = new AtomicIntegerArray(n);
+                this.padre = new int[n];
+                this.frontera = new int[n];
+                this.siguiente = new int[n];
+                this.orden = new int[n];
+                this.sello = 0;
+            }
+            if (this.sello == Integer.MAX_VALUE) {
+                this.marca = new AtomicIntegerArray(this.padre.length);
+                this.sello = 0;
+            }
+            this.sello++;
+        }
+    }
+
+    /**
+     * Celdas descubiertas por una tarea hoja, encadenadas en el orden de la frontera.
+     */
+    private static final class Bloque {
+        final int[] celdas;
+        final int n;
+        Bloque sig;
+
+        Bloque(int[] celdas, int n) {
+            this.celdas = celdas;
+            this.n = n;
+        }
+    }
+
+    /**
+     * Tarea que expande un tramo de la frontera, dividiéndolo mientras supere {@link #UMBRAL}.
+     */
+    private static final class ExpandirNivel extends RecursiveTask<Bloque> {
+        private static final long serialVersionUID = 1L;
+
+        private final Busqueda busqueda;
+        private final MazeGrid grid;
+        private final int[] frontera;
+        private final int desde;
+        private final int hasta;
+
+        ExpandirNivel(Busqueda busqueda, MazeGrid grid, int[] frontera, int desde, int hasta) {
+            this.busqueda = busqueda;
+            this.grid = grid;
+            this.frontera = frontera;
+            this.desde = desde;
+            this.hasta = hasta;
+        }
+
+        @Override
+        protected Bloque compute() {
+            if (this.hasta - this.desde > UMBRAL) {
+                int mitad = (this.desde + this.hasta) >>> 1;
+                ExpandirNivel izquierda = new ExpandirNivel(this.busqueda, this.grid, this.frontera, this.desde, mitad);
+                ExpandirNivel derecha = new ExpandirNivel(this.busqueda, this.grid, this.frontera, mitad, this.hasta);
+                derecha.fork();
+                Bloque a = izquierda.compute();
+                Bloque b = derecha.join();
+                if (a == null)
+                    return b;
+                Bloque ultimo = a;
+                while (ultimo.sig != null)
+                    ultimo = ultimo.sig;
+                ultimo.sig = b;
+                return a;
+            }
+            return expandir();
+        }
+
+        private Bloque expandir() {
+            int rows = this.grid.getRows();
+            int cols = this.grid.getCols();
+            AtomicIntegerArray marca = this.busqueda.marca;
+            int[] padre = this.busqueda.padre;
+            int sello = this.busqueda.sello;
+            int[] nuevas = new int[(this.hasta - this.desde) * 3 + 1];
+            int n = 0;
+            for (int i = this.desde; i < this.hasta; i++) {
+                int actual = this.frontera[i];
+                int fila = actual / cols;
+                int col = actual - fila * cols;
+                for (int d = 0; d < 4; d++) {
+                    int k = fila + DIR_FILA[d];
+                    int m = col + DIR_COL[d];
+                    if (k < 0 || k >= rows || m < 0 || m >= cols)
+                        continue;
+                    int vecino = k * cols + m;
+                    if (this.grid.isWall(vecino))
+                        continue;
+                    int visto = marca.get(vecino);
+                    // Solo la tarea que gana la operación atómica añade la celda al siguiente nivel.
+                    if (visto != sello && marca.compareAndSet(vecino, visto, sello)) {
+                        padre[vecino] = actual;
+                        if (n == nuevas.length)
+                            nuevas = Arrays.copyOf(nuevas, n * 2);
+                        nuevas[n++] = vecino;
+                    }
+                }
+            }
+            return n == 0 ? null : new Bloque(nuevas, n);
+        }
+    }
+}
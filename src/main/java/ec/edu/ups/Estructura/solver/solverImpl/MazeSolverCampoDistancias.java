@@ -0,0 +1,80 @@
+package ec.edu.ups.Estructura.solver.solverImpl;
+
+import java.util.Arrays;
+
+import ec.edu.ups.Estructura.models.Cell;
+import ec.edu.ups.Estructura.models.MazeGrid;
+import ec.edu.ups.Estructura.models.SolveResult;
+import ec.edu.ups.Estructura.solver.DistanceField;
+import ec.edu.ups.Estructura.solver.MazeSolver;
+import ec.edu.ups.Estructura.solver.SolveSink;
+
+/**
+ * `MazeSolverCampoDistancias` implementa la interfaz `MazeSolver` para el caso en que el destino
+ * queda fijo y el origen cambia: guarda un {@link DistanceField} hacia la celda final y responde
+ * cada consulta bajando por el gradiente, sin volver a buscar.
+ *
+ * El campo se recalcula solo cuando cambia la celda final o se edita el laberinto (su versión
+ * cambia). En esa llamada las celdas visitadas son todas las alcanzables, en el orden de la BFS
+ * inversa; en las siguientes no se visita ninguna. El camino tiene el mínimo número de pasos,
+ * igual que el de BFS, pero no tiene en cuenta el terreno.
+ *
+ * Como {@link MazeSolverLPAStar}, guarda estado entre llamadas y sus métodos están sincronizados.
+ */
+public class MazeSolverCampoDistancias implements MazeSolver {
+    private final DistanceField campo = new DistanceField();
+
+    /**
+     * Encuentra el camino más corto desde la celda de inicio hasta la celda final.
+     *
+     * @param paramArrayOfCell Un arreglo 2D de objetos `Cell` que representa la cuadrícula del laberinto.
+     * @param paramCell1 La `Cell` de inicio.
+     * @param paramCell2 La `Cell` final.
+     * @return Un objeto `SolveResult` con las celdas visitadas al calcular el campo y el camino.
+     */
+    @Override
+    public SolveResult getPath(Cell[][] paramArrayOfCell, Cell paramCell1, Cell paramCell2) {
+        MazeGrid grid = MazeGrid.fromCells(paramArrayOfCell);
+        return getPath(grid, grid.index(paramCell1.row, paramCell1.col), grid.index(paramCell2.row, paramCell2.col));
+    }
+
+    /**
+     * Asegura que el campo hacia {@code end} esté al día y baja por él desde {@code start}.
+     *
+     * @param grid  La cuadrícula compacta del laberinto.
+     * @param start El índice de la celda de inicio.
+     * @param end   El índice de la celda final.
+     * @return Un objeto `SolveResult` con las celdas visitadas (vacío si el campo ya estaba calculado) y el camino.
+     */
+    @Override
+    public synchronized SolveResult getPath(MazeGrid grid, int start, int end) {
+        int[] visitadas = new int[0];
+        if (this.campo.actualizar(grid, end))
+            visitadas = Arrays.copyOf(this.campo.ordenDeCalculo(), this.campo.getAlcanzables());
+        int[] camino = this.campo.camino(start);
+        return new SolveResult(grid.cellList(visitadas, visitadas.length), grid.cellList(camino, camino.length));
+    }
+
+    /**
+     * Igual que {@link #getPath(MazeGrid, int, int)}, avisando a {@code sink} las celdas.
+     *
+     * @param grid  La cuadrícula compacta del laberinto.
+     * @param start El índice de la celda de inicio.
+     * @param end   El índice de la celda final.
+     * @param sink  El receptor de los eventos.
+     * @return {@code true} si se encontró un camino.
+     */
+    @Override
+    public synchronized boolean solve(MazeGrid grid, int start, int end, SolveSink sink) {
+        if (this.campo.actualizar(grid, end)) {
+            int[] orden = this.campo.ordenDeCalculo();
+            for (int i = 0, n = this.campo.getAlcanzables(); i < n; i++)
+                sink.celdaVisitada(orden[i]);
+        }
+        int[] camino = this.campo.camino(start);
+        for (int celda : camino)
+            sink.celdaDelCamino(celda);
+        sink.finalizado(camino.length > 0);
+        return camino.length > 0;
+    }
+}
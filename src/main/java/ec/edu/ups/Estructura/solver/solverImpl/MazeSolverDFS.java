@@ -1,17 +1,10 @@
 package ec.edu.ups.Estructura.solver.solverImpl;
 
-import java.util.ArrayList;
-import java.util.Collections; // Se añade para Collections.reverse si fuera necesario, aunque en DFS se construye al revés
-import java.util.HashMap;    // No se usa en DFS recursivo directo, pero se mantiene si se modifica el enfoque
-import java.util.LinkedList; // No se usa en DFS, ya que es para BFS
-import java.util.LinkedHashSet; // Importado para Set
-import java.util.List;        // Importado para List
-import java.util.Set;         // Importado para Set
-
 import ec.edu.ups.Estructura.models.Cell;
-import ec.edu.ups.Estructura.models.CellState;
+import ec.edu.ups.Estructura.models.MazeGrid;
 import ec.edu.ups.Estructura.models.SolveResult;
 import ec.edu.ups.Estructura.solver.MazeSolver;
+import ec.edu.ups.Estructura.solver.SolveSink;
 
 /**
  * `MazeSolverDFS` implementa la interfaz `MazeSolver` utilizando el algoritmo de Búsqueda en Profundidad (DFS).
@@ -20,12 +13,9 @@ import ec.edu.ups.Estructura.solver.MazeSolver;
  */
 public class MazeSolverDFS implements MazeSolver {
 
-    // `visitadas` es un conjunto para almacenar las celdas ya visitadas durante la exploración DFS.
-    // Se utiliza `LinkedHashSet` para mantener el orden de inserción de las celdas visitadas.
-    private Set<Cell> visitadas = new LinkedHashSet<>();
-
-    // `camino` es una lista para almacenar las celdas que forman el camino encontrado desde el inicio hasta el fin.
-    private List<Cell> camino = new ArrayList<>();
+    // Desplazamientos de fila y columna en el orden de exploración: abajo, arriba, derecha, izquierda.
+    private static final int[] DIR_FILA = { 1, -1, 0, 0 };
+    private static final int[] DIR_COL = { 0, 0, 1, -1 };
 
     /**
      * Inicia la búsqueda de un camino desde la celda de inicio hasta la celda final en el laberinto
@@ -41,78 +31,135 @@ public class MazeSolverDFS implements MazeSolver {
      */
     @Override
     public SolveResult getPath(Cell[][] paramArrayOfCell, Cell paramCell1, Cell paramCell2) {
-        // Limpiar las estructuras de datos antes de cada nueva búsqueda.
-        this.visitadas.clear();
-        this.camino.clear();
-
-        // Llamar al método DFS recursivo para iniciar la búsqueda.
-        // Se pasa la celda de inicio y la celda objetivo.
-        dfs(paramArrayOfCell, paramCell1.row, paramCell1.col, paramCell2);
-
-        // Devolver el resultado de la búsqueda, que incluye las celdas visitadas y el camino encontrado.
-        // Se crea nuevas ArrayLists a partir de los conjuntos y listas internas para devolver copias.
-        return new SolveResult(new ArrayList<>(this.visitadas), new ArrayList<>(this.camino));
+        // Se trabaja sobre la representación compacta del laberinto; las celdas devueltas
+        // siguen siendo las mismas instancias de `paramArrayOfCell`.
+        MazeGrid grid = MazeGrid.fromCells(paramArrayOfCell);
+        return getPath(grid, grid.index(paramCell1.row, paramCell1.col), grid.index(paramCell2.row, paramCell2.col));
     }
 
     /**
-     * Método auxiliar recursivo para realizar la Búsqueda en Profundidad (DFS).
-     * Explora el laberinto en profundidad, marcando las celdas visitadas y construyendo el camino
-     * si se encuentra la celda objetivo.
+     * Ejecuta DFS directamente sobre los índices planos de la cuadrícula compacta.
      *
-     * @param paramArrayOfCell El arreglo 2D de celdas que representa el laberinto.
-     * @param paramInt1 La coordenada de fila de la celda actual.
-     * @param paramInt2 La coordenada de columna de la celda actual.
-     * @param paramCell La `Cell` objetivo (celda final) que se busca.
-     * @return `true` si se encontró un camino a la celda objetivo desde la celda actual, `false` en caso contrario.
+     * @param grid  La cuadrícula compacta del laberinto.
+     * @param start El índice de la celda de inicio.
+     * @param end   El índice de la celda final.
+     * @return Un objeto `SolveResult` con las celdas visitadas y el camino encontrado (vacío si no existe).
      */
-    private boolean dfs(Cell[][] paramArrayOfCell, int paramInt1, int paramInt2, Cell paramCell) {
-        // 1. Verificar si la celda actual es válida (dentro de los límites y no es una pared).
-        if (!isValid(paramArrayOfCell, paramInt1, paramInt2)) {
-            return false;
-        }
-
-        Cell cell = paramArrayOfCell[paramInt1][paramInt2];
+    @Override
+    public SolveResult getPath(MazeGrid grid, int start, int end) {
+        // El registro de visitas y la pila se toman del espacio de trabajo del hilo.
+        SolverWorkspace ws = SolverWorkspace.actual();
+        ws.pilaIndices(grid.size());
+        ws.recorrido.reiniciar(grid.size());
 
-        // 2. Verificar si la celda ya fue visitada. Si es así, se evita un ciclo o procesamiento redundante.
-        if (this.visitadas.contains(cell)) {
-            return false;
-        }
+        // Llamar al método DFS iterativo para iniciar la búsqueda.
+        int[] camino = dfs(grid, start, end, ws, null);
 
-        // 3. Marcar la celda actual como visitada.
-        this.visitadas.add(cell);
+        int[] visitadas = ws.recorrido.toArray();
+        return new SolveResult(grid.cellList(visitadas, visitadas.length), grid.cellList(camino, camino.length));
+    }
 
-        // 4. Si la celda actual es la celda objetivo, se ha encontrado un camino.
-        if (cell.equals(paramCell)) {
-            this.camino.add(cell); // Añadir la celda objetivo al camino.
-            return true;
-        }
+    /**
+     * Ejecuta DFS avisando a {@code sink} cada celda en el momento en que se visita.
+     *
+     * @param grid  La cuadrícula compacta del laberinto.
+     * @param start El índice de la celda de inicio.
+     * @param end   El índice de la celda final.
+     * @param sink  El receptor de los eventos.
+     * @return {@code true} si se encontró un camino.
+     */
+    @Override
+    public boolean solve(MazeGrid grid, int start, int end, SolveSink sink) {
+        SolverWorkspace ws = SolverWorkspace.actual();
+        ws.pilaIndices(grid.size());
+        ws.recorrido.reiniciar(grid.size());
+        int[] camino = dfs(grid, start, end, ws, sink);
+        for (int celda : camino)
+            sink.celdaDelCamino(celda);
+        sink.finalizado(camino.length > 0);
+        return camino.length > 0;
+    }
 
-        // 5. Explorar los vecinos de la celda actual (arriba, abajo, derecha, izquierda).
-        // Se utiliza el operador lógico OR (||) para detener la exploración tan pronto como se encuentre un camino.
-        if (dfs(paramArrayOfCell, paramInt1 + 1, paramInt2, paramCell) || // Moverse hacia abajo
-                dfs(paramArrayOfCell, paramInt1 - 1, paramInt2, paramCell) || // Moverse hacia arriba
-                dfs(paramArrayOfCell, paramInt1, paramInt2 + 1, paramCell) || // Moverse hacia la derecha
-                dfs(paramArrayOfCell, paramInt1, paramInt2 - 1, paramCell)) { // Moverse hacia la izquierda
-            this.camino.add(cell); // Si alguno de los vecinos lleva a la celda objetivo, añadir la celda actual al camino.
-            return true;
+    /**
+     * Método auxiliar que realiza la Búsqueda en Profundidad (DFS) con una pila explícita.
+     * Reproduce exactamente el recorrido de la versión recursiva (abajo, arriba, derecha, izquierda),
+     * pero sin consumir la pila de llamadas de Java, por lo que funciona en laberintos de cualquier tamaño.
+     *
+     * Cada marco de la pila guarda la celda y la siguiente dirección que falta probar desde ella.
+     * Al encontrar el objetivo, la pila contiene exactamente los ancestros del objetivo.
+     *
+     * @param grid La cuadrícula compacta del laberinto.
+     * @param inicio El índice de la celda de inicio.
+     * @param objetivo El índice de la celda objetivo (celda final) que se busca.
+     * @param ws El espacio de trabajo del hilo.
+     * @param sink El receptor de las celdas visitadas, o `null` para no avisar.
+     * @return El camino desde la celda objetivo hasta la de inicio, o un arreglo vacío si no existe.
+     */
+    private int[] dfs(MazeGrid grid, int inicio, int objetivo, SolverWorkspace ws, SolveSink sink) {
+        int cols = grid.getCols();
+        int[] pila = ws.pila;
+        byte[] siguienteDir = ws.direcciones;
+        int tope = 0;
+
+        // La celda de inicio se trata como el primer "llamado" recursivo.
+        if (!entrar(grid, inicio / cols, inicio % cols, ws, sink))
+            return new int[0];
+        if (inicio == objetivo)
+            return new int[] { inicio };
+        pila[tope] = inicio;
+        siguienteDir[tope++] = 0;
+
+        while (tope > 0) {
+            int actual = pila[tope - 1];
+            int d = siguienteDir[tope - 1];
+            if (d == 4) {
+                // Ningún vecino conduce al objetivo: se retrocede (equivale a `return false`).
+                tope--;
+                continue;
+            }
+            siguienteDir[tope - 1] = (byte) (d + 1);
+
+            int fila = actual / cols + DIR_FILA[d];
+            int col = actual % cols + DIR_COL[d];
+            if (!entrar(grid, fila, col, ws, sink))
+                continue;
+            int vecino = fila * cols + col;
+            if (vecino == objetivo) {
+                // Se encontró el objetivo: el camino es el objetivo seguido de la pila, de arriba hacia abajo.
+                int[] camino = new int[tope + 1];
+                int largo = 0;
+                camino[largo++] = vecino;
+                while (tope > 0)
+                    camino[largo++] = pila[--tope];
+                return camino;
+            }
+            pila[tope] = vecino;
+            siguienteDir[tope++] = 0;
         }
 
-        // 6. Si ningún vecino conduce a la celda objetivo, este camino no es válido.
-        return false;
+        // Si ningún vecino conduce a la celda objetivo, no existe un camino.
+        return new int[0];
     }
 
     /**
-     * Método auxiliar para verificar si una celda dada por sus coordenadas es válida para la exploración.
-     * Una celda es válida si está dentro de los límites del laberinto y no es una pared.
+     * Intenta visitar una celda: comprueba que sea válida (dentro de los límites y no es una pared)
+     * y que no haya sido visitada; si es así, la marca y registra su orden de visita.
      *
-     * @param paramArrayOfCell El arreglo 2D de celdas que representa el laberinto.
-     * @param paramInt1 La coordenada de fila de la celda a verificar.
-     * @param paramInt2 La coordenada de columna de la celda a verificar.
-     * @return `true` si la celda es válida para la exploración, `false` en caso contrario.
+     * @param grid La cuadrícula compacta del laberinto.
+     * @param fila La fila de la celda.
+     * @param col La columna de la celda.
+     * @param ws El espacio de trabajo del hilo.
+     * @param sink El receptor de las celdas visitadas, o `null` para no avisar.
+     * @return `true` si la celda se acaba de visitar, `false` si no debe explorarse.
      */
-    private boolean isValid(Cell[][] paramArrayOfCell, int paramInt1, int paramInt2) {
-        return (paramInt1 >= 0 && paramInt1 < paramArrayOfCell.length && // Verificar límites de fila
-                paramInt2 >= 0 && paramInt2 < (paramArrayOfCell[0]).length && // Verificar límites de columna
-                (paramArrayOfCell[paramInt1][paramInt2]).state != CellState.WALL); // Verificar que no sea una pared
+    private static boolean entrar(MazeGrid grid, int fila, int col, SolverWorkspace ws, SolveSink sink) {
+        if (!grid.inBounds(fila, col) || grid.isWall(fila, col))
+            return false;
+        int indice = grid.index(fila, col);
+        if (!ws.recorrido.visitar(indice))
+            return false;
+        if (sink != null)
+            sink.celdaVisitada(indice);
+        return true;
     }
-}
\ No newline at end of file
+}
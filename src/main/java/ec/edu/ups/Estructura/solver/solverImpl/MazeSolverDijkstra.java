@@ -0,0 +1,159 @@
+package ec.edu.ups.Estructura.solver.solverImpl;
+
+import java.util.Arrays;
+
+import ec.edu.ups.Estructura.models.Cell;
+import ec.edu.ups.Estructura.models.MazeGrid;
+import ec.edu.ups.Estructura.models.SolveResult;
+import ec.edu.ups.Estructura.solver.MazeSolver;
+import ec.edu.ups.Estructura.solver.SolveSink;
+
+/**
+ * `MazeSolverDijkstra` implementa la interfaz `MazeSolver` con el algoritmo de Dijkstra sobre
+ * celdas con costo ({@link ec.edu.ups.Estructura.models.Terrain}). Entrar en una celda cuesta su
+ * terreno, así que el camino devuelto es el de menor costo total, no necesariamente el de menos pasos.
+ *
+ * Como los costos son enteros pequeños, la frontera es una {@link BucketQueue} (algoritmo de Dial)
+ * en lugar de un montículo, lo que da un tiempo casi lineal en el número de celdas.
+ */
+public class MazeSolverDijkstra implements MazeSolver {
+
+    // Desplazamientos de fila y columna para los cuatro vecinos (abajo, arriba, derecha, izquierda).
+    private static final int[] DIR_FILA = { 1, -1, 0, 0 };
+    private static final int[] DIR_COL = { 0, 0, 1, -1 };
+
+    /**
+     * Encuentra el camino de menor costo desde la celda de inicio hasta la celda final.
+     *
+     * @param paramArrayOfCell Un arreglo 2D de objetos `Cell` que representa la cuadrícula del laberinto.
+     * @param paramCell1 La `Cell` de inicio.
+     * @param paramCell2 La `Cell` final.
+     * @return Un objeto `SolveResult` con las celdas cerradas en orden y el camino de menor costo.
+     */
+    @Override
+    public SolveResult getPath(Cell[][] paramArrayOfCell, Cell paramCell1, Cell paramCell2) {
+        MazeGrid grid = MazeGrid.fromCells(paramArrayOfCell);
+        return getPath(grid, grid.index(paramCell1.row, paramCell1.col), grid.index(paramCell2.row, paramCell2.col));
+    }
+
+    /**
+     * Ejecuta Dijkstra sobre los índices planos de la cuadrícula compacta.
+     *
+     * @param grid  La cuadrícula compacta del laberinto.
+     * @param start El índice de la celda de inicio.
+     * @param end   El índice de la celda final.
+     * @return Un objeto `SolveResult` con las celdas cerradas en orden y el camino de menor costo.
+     */
+    @Override
+    public SolveResult getPath(MazeGrid grid, int start, int end) {
+        SolverWorkspace ws = SolverWorkspace.actual();
+        int sello = buscar(grid, start, end, ws, null);
+        int[] visitadas = Arrays.copyOf(ws.orden, ws.numOrden);
+        int[] camino = reconstruir(ws, end, sello);
+        return new SolveResult(grid.cellList(visitadas, visitadas.length), grid.cellList(camino, camino.length));
+    }
+
+    /**
+     * Ejecuta Dijkstra avisando a {@code sink} cada celda en el momento en que se fija su distancia.
+     *
+     * @param grid  La cuadrícula compacta del laberinto.
+     * @param start El índice de la celda de inicio.
+     * @param end   El índice de la celda final.
+     * @param sink  El receptor de los eventos.
+     * @return {@code true} si se encontró un camino.
+     */
+    @Override
+    public boolean solve(MazeGrid grid, int start, int end, SolveSink sink) {
+        SolverWorkspace ws = SolverWorkspace.actual();
+        int sello = buscar(grid, start, end, ws, sink);
+        int[] camino = reconstruir(ws, end, sello);
+        for (int celda : camino)
+            sink.celdaDelCamino(celda);
+        sink.finalizado(camino.length > 0);
+        return camino.length > 0;
+    }
+
+    /**
+     * Ciclo principal de Dijkstra. Deja el orden de visita en {@code ws.orden} y los padres en
+     * {@code ws.padre}.
+     *
+     * @param grid  La cuadrícula compacta del laberinto.
+     * @param start El índice de la celda de inicio.
+     * @param end   El índice de la celda final.
+     * @param ws    El espacio de trabajo del hilo.
+     * @param sink  El receptor de las celdas visitadas, o {@code null} para no avisar.
+     * @return El sello de la búsqueda.
+     */
+    private static int buscar(MazeGrid grid, int start, int end, SolverWorkspace ws, SolveSink sink) {
+        int rows = grid.getRows();
+        int cols = grid.getCols();
+        // Cubetas, distancias, padres y marcas con sello vienen del espacio de trabajo del hilo.
+        BucketQueue frontera = ws.cubetas;
+        frontera.reset(grid.size(), grid.getMaxCost());
+        int sello = ws.prepararPara(grid.size());
+        int[] distancia = ws.costo;
+        int[] padre = ws.padre;
+        int[] vista = ws.vista;
+        int[] cerrada = ws.cerrada;
+        int[] cerradas = ws.orden;
+        int numCerradas = 0;
+
+        distancia[start] = 0;
+        padre[start] = -1;
+        vista[start] = sello;
+        frontera.push(start, 0);
+
+        while (!frontera.isEmpty()) {
+            int actual = frontera.pop();
+            cerrada[actual] = sello;
+            cerradas[numCerradas++] = actual;
+            if (sink != null)
+                sink.celdaVisitada(actual);
+            if (actual == end)
+                break;
+
+            int fila = actual / cols;
+            int col = actual - fila * cols;
+            for (int d = 0; d < 4; d++) {
+                int k = fila + DIR_FILA[d];
+                int m = col + DIR_COL[d];
+                if (k < 0 || k >= rows || m < 0 || m >= cols)
+                    continue;
+                int vecino = k * cols + m;
+                if (cerrada[vecino] == sello || grid.isWall(vecino))
+                    continue;
+                int nueva = distancia[actual] + grid.getCost(vecino);
+                if (vista[vecino] != sello || nueva < distancia[vecino]) {
+                    vista[vecino] = sello;
+                    distancia[vecino] = nueva;
+                    padre[vecino] = actual;
+                    frontera.push(vecino, nueva);
+                }
+            }
+        }
+
+        ws.numOrden = numCerradas;
+        return sello;
+    }
+
+    /**
+     * Reconstruye el camino desde el inicio hasta {@code end} siguiendo los padres.
+     *
+     * @param ws    El espacio de trabajo con los padres de la búsqueda.
+     * @param end   El índice de la celda final.
+     * @param sello El sello de la búsqueda.
+     * @return Los índices del camino, o un arreglo vacío si la celda final no se alcanzó.
+     */
+    private static int[] reconstruir(SolverWorkspace ws, int end, int sello) {
+        int[] padre = ws.padre;
+        if (ws.cerrada[end] != sello)
+            return new int[0];
+        int largo = 0;
+        for (int c = end; c != -1; c = padre[c])
+            largo++;
+        int[] camino = new int[largo];
+        for (int c = end, i = largo - 1; c != -1; c = padre[c], i--)
+            camino[i] = c;
+        return camino;
+    }
+}
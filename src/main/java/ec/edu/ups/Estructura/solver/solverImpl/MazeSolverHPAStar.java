@@ -0,0 +1,579 @@
+package ec.edu.ups.Estructura.solver.solverImpl;
+
+import java.util.Arrays;
+
+import ec.edu.ups.Estructura.models.Cell;
+import ec.edu.ups.Estructura.models.MazeGrid;
+import ec.edu.ups.Estructura.models.SolveResult;
+import ec.edu.ups.Estructura.solver.MazeSolver;
+import ec.edu.ups.Estructura.solver.SolveSink;
+
+/**
+ * `MazeSolverHPAStar` implementa la interfaz `MazeSolver` con búsqueda jerárquica (HPA*), pensada
+ * para laberintos muy grandes en los que incluso A* expande demasiadas celdas.
+ *
+ * La cuadrícula se divide en clusters de {@value #TAMANO_CLUSTER}x{@value #TAMANO_CLUSTER}. En cada
+ * borde entre dos clusters, cada tramo de celdas libres a ambos lados es una entrada: se toma su
+ * celda central, o sus dos extremos si el tramo es largo. Las celdas de entrada son los nodos de
+ * un grafo abstracto con dos tipos de aristas:
+ * <ul>
+ *   <li>entre las dos celdas de una entrada, con costo 1;</li>
+ *   <li>entre dos entradas del mismo cluster, con su distancia dentro del cluster.</li>
+ * </ul>
+ * Una consulta conecta el inicio y el fin con las entradas de su cluster, busca con A* en el grafo
+ * abstracto y refina cada tramo con una BFS dentro de su cluster. Las celdas visitadas que se
+ * informan son los nodos abstractos expandidos.
+ *
+ * Las distancias dentro de un cluster se calculan la primera vez que la búsqueda pasa por él y se
+ * conservan entre llamadas. Al editar el laberinto, los cambios se detectan comparando con una
+ * copia de la llamada anterior, y solo se reconstruyen los clusters editados. Un vecino solo se
+ * reconstruye si cambió su borde compartido.
+ *
+ * Los pasos cuestan 1 (no tiene en cuenta el terreno, igual que A*) y el camino siempre existe
+ * cuando existe alguno. Pero como debe cruzar los bordes por las entradas, puede ser algo más
+ * largo que el óptimo. Como {@link MazeSolverLPAStar}, guarda estado entre llamadas y sus métodos
+ * están sincronizados.
+ */
+public class MazeSolverHPAStar implements MazeSolver {
+
+    // Desplazamientos de fila y columna para los cuatro vecinos (abajo, arriba, derecha, izquierda).
+    private static final int[] DIR_FILA = { 1, -1, 0, 0 };
+    private static final int[] DIR_COL = { 0, 0, 1, -1 };
+
+    /**
+     * Lado de un cluster, en celdas.
+     */
+    public static final int TAMANO_CLUSTER = 32;
+
+    /**
+     * Largo a partir del cual un tramo de borde tiene dos entradas (sus extremos) en lugar de una.
+     */
+    private static final int LARGO_ENTRADA_DOBLE = 6;
+
+    /**
+     * Si cambia más de esta fracción de las celdas, es más barato reconstruir todos los clusters.
+     */
+    private static final int FRACCION_REINICIO = 8;
+
+    private MazeGrid grid;
+    /**
+     * Copia de los muros con los que se construyeron los clusters; todas las lecturas se hacen sobre ella.
+     */
+    private MazeGrid copia;
+    private long version;
+    private int rows;
+    private int cols;
+    private int filasCluster;
+    private int colsCluster;
+    /**
+     * Entradas del borde derecho e inferior de cada cluster, como pares (celda propia, celda vecina).
+     */
+    private int[][] bordeEste;
+    private int[][] bordeSur;
+    /**
+     * Celdas de entrada de cada cluster y, en paralelo, la celda del otro lado de cada una.
+     */
+    private int[][] nodos;
+    private int[][] parejas;
+    /**
+     * Distancias entre las entradas de cada cluster ({@code m x m}, -1 si no se conectan), o
+     * {@code null} si hay que calcularlas.
+     */
+    private int[][] tablas;
+
+    // Caja del último cluster recorrido y arreglos de su BFS, indexados por posición local.
+    private int filaCaja;
+    private int colCaja;
+    private int altoCaja;
+    private int anchoCaja;
+    private final int[] distLocal = new int[TAMANO_CLUSTER * TAMANO_CLUSTER];
+    private final int[] padreLocal = new int[TAMANO_CLUSTER * TAMANO_CLUSTER];
+    private final int[] colaLocal = new int[TAMANO_CLUSTER * TAMANO_CLUSTER];
+
+    // Nodos temporales de la consulta: el inicio y sus vecinas libres de otros clusters (por las
+    // que se puede salir aunque no sean entradas). De cada uno, la distancia a las entradas de su
+    // cluster y al fin si está en el mismo cluster (-1 si no).
+    private final int[] fuentes = new int[5];
+    private final int[][] distFuentes = new int[5][];
+    private final int[] directos = new int[5];
+    private int numFuentes;
+    // Distancias del fin a las entradas de su cluster.
+    private int[] distFin;
+
+    /**
+     * Encuentra un camino desde la celda de inicio hasta la celda final usando HPA*.
+     *
+     * @param paramArrayOfCell Un arreglo 2D de objetos `Cell` que representa la cuadrícula del laberinto.
+     * @param paramCell1 La `Cell` de inicio.
+     * @param paramCell2 La `Cell` final.
+     * @return Un objeto `SolveResult` con los nodos abstractos expandidos y el camino (vacío si no existe).
+     */
+    @Override
+    public SolveResult getPath(Cell[][] paramArrayOfCell, Cell paramCell1, Cell paramCell2) {
+        MazeGrid grid = MazeGrid.fromCells(paramArrayOfCell);
+        return getPath(grid, grid.index(paramCell1.row, paramCell1.col), grid.index(paramCell2.row, paramCell2.col));
+    }
+
+    /**
+     * Actualiza los clusters editados, busca en el grafo abstracto y refina el camino.
+     *
+     * @param grid  La cuadrícula compacta del laberinto.
+     * @param start El índice de la celda de inicio.
+     * @param end   El índice de la celda final.
+     * @return Un objeto `SolveResult` con los nodos abstractos expandidos (en orden) y el camino.
+     */
+    @Override
+    public synchronized SolveResult getPath(MazeGrid grid, int start, int end) {
+        SolverWorkspace ws = SolverWorkspace.actual();
+        int[] camino = buscar(grid, start, end, ws, null);
+        int[] visitadas = Arrays.copyOf(ws.orden, ws.numOrden);
+        return new SolveResult(grid.cellList(visitadas, visitadas.length), grid.cellList(camino, camino.length));
+    }
+
+    /**
+     * Igual que {@link #getPath(MazeGrid, int, int)}, avisando a {@code sink} cada nodo abstracto
+     * que se expande y después las celdas del camino refinado.
+     *
+     * @param grid  La cuadrícula compacta del laberinto.
+     * @param start El índice de la celda de inicio.
+     * @param end   El índice de la celda final.
+     * @param sink  El receptor de los eventos.
+     * @return {@code true} si se encontró un camino.
+     */
+    @Override
+    public synchronized boolean solve(MazeGrid grid, int start, int end, SolveSink sink) {
+        int[] camino = buscar(grid, start, end, SolverWorkspace.actual(), sink);
+        for (int celda : camino)
+            sink.celdaDelCamino(celda);
+        sink.finalizado(camino.length > 0);
+        return camino.length > 0;
+    }
+
+    /**
+     * Sincroniza los clusters, ejecuta A* sobre el grafo abstracto y refina el resultado.
+     *
+     * @return Los índices del camino, o un arreglo vacío si no existe.
+     */
+    private int[] buscar(MazeGrid grid, int start, int end, SolverWorkspace ws, SolveSink sink) {
+        sincronizar(grid);
+        IndexedMinHeap frontera = ws.monticulo;
+        frontera.reset(grid.size());
+        int sello = ws.prepararPara(grid.size());
+        if (this.copia.isWall(end) && start != end)
+            return new int[0];
+
+        int clusterFin = clusterDe(end);
+        prepararFuentes(start, end, clusterFin);
+        this.distFin = distanciasANodos(clusterFin, end);
+
+        int[] costo = ws.costo;
+        int[] padre = ws.padre;
+        int[] cerrada = ws.cerrada;
+        int filaFin = end / this.cols;
+        int colFin = end % this.cols;
+        costo[start] = 0;
+        padre[start] = -1;
+        ws.vista[start] = sello;
+        frontera.push(start, prioridad(0, start, filaFin, colFin));
+
+        while (!frontera.isEmpty()) {
+            int u = frontera.pop();
+            cerrada[u] = sello;
+            ws.orden[ws.numOrden++] = u;
+            if (sink != null)
+                sink.celdaVisitada(u);
+            if (u == end)
+                break;
+
+            int g = costo[u];
+            for (int f = 0; f < this.numFuentes; f++) {
+                if (this.fuentes[f] != u)
+                    continue;
+                int[] ns = this.nodos[clusterDe(u)];
+                for (int j = 0; j < ns.length; j++) {
+                    if (this.distFuentes[f][j] >= 0)
+                        relajar(ws, sello, ns[j], g + this.distFuentes[f][j], u, filaFin, colFin);
+                }
+                if (this.directos[f] >= 0)
+                    relajar(ws, sello, end, g + this.directos[f], u, filaFin, colFin);
+                if (f == 0) {
+                    for (int v = 1; v < this.numFuentes; v++)
+                        relajar(ws, sello, this.fuentes[v], g + 1, u, filaFin, colFin);
+                }
+            }
+
+            int k = clusterDe(u);
+            int[] ns = this.nodos[k];
+            int finDesde = -1;
+            for (int j = 0; j < ns.length; j++) {
+                if (ns[j] != u)
+                    continue;
+                // Cruzar la entrada hacia el cluster vecino.
+                relajar(ws, sello, this.parejas[k][j], g + 1, u, filaFin, colFin);
+                // Ir a las otras entradas del mismo cluster.
+                int[] tabla = tabla(k);
+                int m = ns.length;
+                for (int i = 0; i < m; i++) {
+                    int d = tabla[j * m + i];
+                    if (d > 0)
+                        relajar(ws, sello, ns[i], g + d, u, filaFin, colFin);
+                }
+                if (k == clusterFin)
+                    finDesde = j;
+            }
+            if (finDesde >= 0 && this.distFin[finDesde] >= 0)
+                relajar(ws, sello, end, g + this.distFin[finDesde], u, filaFin, colFin);
+        }
+
+        if (cerrada[end] != sello)
+            return new int[0];
+        return refinar(padre, start, end);
+    }
+
+    /**
+     * Prepara los nodos temporales del inicio: él mismo y cada vecina libre en otro cluster.
+     */
+    private void prepararFuentes(int start, int end, int clusterFin) {
+        this.numFuentes = 0;
+        agregarFuente(start, end, clusterFin);
+        int fila = start / this.cols;
+        int col = start - fila * this.cols;
+        for (int d = 0; d < 4; d++) {
+            int f = fila + DIR_FILA[d];
+            int c = col + DIR_COL[d];
+            if (f < 0 || f >= this.rows || c < 0 || c >= this.cols)
+                continue;
+            int vecina = f * this.cols + c;
+            if (!this.copia.isWall(vecina) && clusterDe(vecina) != clusterDe(start))
+                agregarFuente(vecina, end, clusterFin);
+        }
+    }
+
+    private void agregarFuente(int celda, int end, int clusterFin) {
+        int k = clusterDe(celda);
+        this.fuentes[this.numFuentes] = celda;
+        this.distFuentes[this.numFuentes] = distanciasANodos(k, celda);
+        this.directos[this.numFuentes] = k == clusterFin ? this.distLocal[local(end)] : -1;
+        this.numFuentes++;
+    }
+
+    private void relajar(SolverWorkspace ws, int sello, int v, int g, int desde, int filaFin, int colFin) {
+        // Las distancias del grafo abstracto nunca son menores que la Manhattan, así que la
+        // heurística es consistente y un nodo cerrado ya tiene su costo definitivo.
+        if (ws.cerrada[v] == sello)
+            return;
+        if (ws.vista[v] != sello || g < ws.costo[v]) {
+            ws.vista[v] = sello;
+            ws.costo[v] = g;
+            ws.padre[v] = desde;
+            ws.monticulo.push(v, prioridad(g, v, filaFin, colFin));
+        }
+    }
+
+    /**
+     * Prioridad de A*: {@code f = g + h} en los 32 bits altos y {@code h} en los bajos.
+     */
+    private long prioridad(int g, int celda, int filaFin, int colFin) {
+        int fila = celda / this.cols;
+        int h = Math.abs(fila - filaFin) + Math.abs(celda - fila * this.cols - colFin);
+        return ((long) (g + h) << 32) | h;
+    }
+
+    /**
+     * Convierte la secuencia de nodos abstractos en celdas: dos nodos de clusters distintos son
+     * vecinos, y dos del mismo cluster se unen con el camino de una BFS dentro de él.
+     */
+    private int[] refinar(int[] padre, int start, int end) {
+        int numNodos = 0;
+        for (int c = end; c != -1; c = padre[c])
+            numNodos++;
+        int[] abstracto = new int[numNodos];
+        for (int c = end, i = numNodos - 1; c != -1; c = padre[c], i--)
+            abstracto[i] = c;
+
+        int[] camino = new int[Math.max(16, numNodos)];
+        int largo = 0;
+        camino[largo++] = start;
+        int[] tramo = new int[TAMANO_CLUSTER * TAMANO_CLUSTER];
+        for (int i = 1; i < numNodos; i++) {
+            int a = abstracto[i - 1];
+            int b = abstracto[i];
+            int numTramo = 0;
+            if (clusterDe(a) != clusterDe(b)) {
+                tramo[numTramo++] = b;
+            } else {
+                bfsLocal(clusterDe(a), a);
+                // Se recorren los padres desde b hasta a (sin incluir a).
+                for (int l = local(b); l != local(a); l = this.padreLocal[l])
+                    tramo[numTramo++] = global(l);
+            }
+            if (largo + numTramo > camino.length)
+                camino = Arrays.copyOf(camino, Math.max(camino.length * 2, largo + numTramo));
+            for (int t = numTramo - 1; t >= 0; t--)
+                camino[largo++] = tramo[t];
+        }
+        return Arrays.copyOf(camino, largo);
+    }
+
+    /**
+     * Ejecuta una BFS desde {@code origen} dentro del cluster {@code k} y devuelve la distancia a
+     * cada una de sus entradas (-1 si no se llega).
+     */
+    private int[] distanciasANodos(int k, int origen) {
+        bfsLocal(k, origen);
+        int[] ns = this.nodos[k];
+        int[] dist = new int[ns.length];
+        for (int j = 0; j < ns.length; j++)
+            dist[j] = this.distLocal[local(ns[j])];
+        return dist;
+    }
+
+    /**
+     * @return La tabla de distancias entre las entradas del cluster {@code k}, calculándola si hace falta.
+     */
+    private int[] tabla(int k) {
+        if (this.tablas[k] == null) {
+            int[] ns = this.nodos[k];
+            int m = ns.length;
+            int[] tabla = new int[m * m];
+            for (int j = 0; j < m; j++) {
+                bfsLocal(k, ns[j]);
+                for (int i = 0; i < m; i++)
+                    tabla[j * m + i] = this.distLocal[local(ns[i])];
+            }
+            this.tablas[k] = tabla;
+        }
+        return this.tablas[k];
+    }
+
+    /**
+     * BFS limitada a la caja del cluster {@code k}. Deja las distancias y los padres en
+     * {@code distLocal} y {@code padreLocal}. El origen puede ser un muro, como en A*.
+     */
+    private void bfsLocal(int k, int origen) {
+        caja(k);
+        int alto = this.altoCaja;
+        int ancho = this.anchoCaja;
+        int[] dist = this.distLocal;
+        int[] cola = this.colaLocal;
+        Arrays.fill(dist, 0, alto * ancho, -1);
+        int inicio = local(origen);
+        dist[inicio] = 0;
+        int fin = 0;
+        cola[fin++] = inicio;
+        for (int cabeza = 0; cabeza < fin; cabeza++) {
+            int actual = cola[cabeza];
+            int fila = actual / ancho;
+            int col = actual - fila * ancho;
+            for (int d = 0; d < 4; d++) {
+                int f = fila + DIR_FILA[d];
+                int c = col + DIR_COL[d];
+                if (f < 0 || f >= alto || c < 0 || c >= ancho)
+                    continue;
+                int vecino = f * ancho + c;
+                if (dist[vecino] < 0 && !this.copia.isWall((this.filaCaja + f) * this.cols + this.colCaja + c)) {
+                    dist[vecino] = dist[actual] + 1;
+                    this.padreLocal[vecino] = actual;
+                    cola[fin++] = vecino;
+                }
+            }
+        }
+    }
+
+    private void caja(int k) {
+        this.filaCaja = (k / this.colsCluster) * TAMANO_CLUSTER;
+        this.colCaja = (k % this.colsCluster) * TAMANO_CLUSTER;
+        this.altoCaja = Math.min(TAMANO_CLUSTER, this.rows - this.filaCaja);
+        this.anchoCaja = Math.min(TAMANO_CLUSTER, this.cols - this.colCaja);
+    }
+
+    /**
+     * Posición de una celda dentro de la caja actual.
+     */
+    private int local(int celda) {
+        int fila = celda / this.cols;
+        return (fila - this.filaCaja) * this.anchoCaja + celda - fila * this.cols - this.colCaja;
+    }
+
+    private int global(int local) {
+        int fila = local / this.anchoCaja;
+        return (this.filaCaja + fila) * this.cols + this.colCaja + local - fila * this.anchoCaja;
+    }
+
+    private int clusterDe(int celda) {
+        int fila = celda / this.cols;
+        return (fila / TAMANO_CLUSTER) * this.colsCluster + (celda - fila * this.cols) / TAMANO_CLUSTER;
+    }
+
+    /**
+     * Pone los clusters al día con la cuadrícula: los reconstruye todos si es otra cuadrícula o
+     * cambió mucho, y si no, solo los que tienen celdas con muros distintos.
+     */
+    private void sincronizar(MazeGrid grid) {
+        if (grid != this.grid || grid.getRows() != this.rows || grid.getCols() != this.cols) {
+            reiniciar(grid);
+            return;
+        }
+        if (grid.getVersion() == this.version)
+            return;
+        int limite = Math.max(1, grid.size() / FRACCION_REINICIO);
+        int cambios = 0;
+        boolean[] editado = new boolean[this.nodos.length];
+        for (int i = grid.firstDifference(this.copia, 0); i >= 0; i = grid.firstDifference(this.copia, i + 1)) {
+            this.copia.setCost(i, grid.getCost(i));
+            if (grid.isWall(i) == this.copia.isWall(i))
+                continue; // El costo no influye en HPA*.
+            if (++cambios > limite) {
+                reiniciar(grid);
+                return;
+            }
+            this.copia.setWall(i, grid.isWall(i));
+            editado[clusterDe(i)] = true;
+        }
+        for (int k = 0; k < editado.length; k++) {
+            if (editado[k])
+                reconstruirCluster(k);
+        }
+        this.version = grid.getVersion();
+    }
+
+    /**
+     * Construye todos los bordes y entradas desde cero. Las tablas de distancias quedan pendientes.
+     */
+    private void reiniciar(MazeGrid grid) {
+        this.grid = grid;
+        this.copia = grid.copy();
+        this.version = grid.getVersion();
+        this.rows = grid.getRows();
+        this.cols = grid.getCols();
+        this.filasCluster = (this.rows + TAMANO_CLUSTER - 1) / TAMANO_CLUSTER;
+        this.colsCluster = (this.cols + TAMANO_CLUSTER - 1) / TAMANO_CLUSTER;
+        int numClusters = this.filasCluster * this.colsCluster;
+        this.bordeEste = new int[numClusters][];
+        this.bordeSur = new int[numClusters][];
+        this.nodos = new int[numClusters][];
+        this.parejas = new int[numClusters][];
+        this.tablas = new int[numClusters][];
+        for (int k = 0; k < numClusters; k++) {
+            this.bordeEste[k] = calcularBordeEste(k);
+            this.bordeSur[k] = calcularBordeSur(k);
+        }
+        for (int k = 0; k < numClusters; k++)
+            actualizarNodos(k);
+    }
+
+    /**
+     * Vuelve a calcular los cuatro bordes de un cluster editado. Sus entradas y distancias se
+     * recalculan siempre; las de un vecino solo si cambió el borde que comparten.
+     */
+    private void reconstruirCluster(int k) {
+        int filaK = k / this.colsCluster;
+        int colK = k % this.colsCluster;
+        if (actualizarBorde(this.bordeEste, k, calcularBordeEste(k)))
+            actualizarNodos(k + 1);
+        if (actualizarBorde(this.bordeSur, k, calcularBordeSur(k)))
+            actualizarNodos(k + this.colsCluster);
+        if (colK > 0 && actualizarBorde(this.bordeEste, k - 1, calcularBordeEste(k - 1)))
+            actualizarNodos(k - 1);
+        if (filaK > 0 && actualizarBorde(this.bordeSur, k - this.colsCluster, calcularBordeSur(k - this.colsCluster)))
+            actualizarNodos(k - this.colsCluster);
+        actualizarNodos(k);
+    }
+
+    private static boolean actualizarBorde(int[][] bordes, int k, int[] nuevo) {
+        if (Arrays.equals(bordes[k], nuevo))
+            return false;
+        bordes[k] = nuevo;
+        return true;
+    }
+
+    /**
+     * Junta las entradas de los cuatro bordes de un cluster y descarta su tabla de distancias.
+     */
+    private void actualizarNodos(int k) {
+        int filaK = k / this.colsCluster;
+        int colK = k % this.colsCluster;
+        int[] oeste = colK > 0 ? this.bordeEste[k - 1] : new int[0];
+        int[] norte = filaK > 0 ? this.bordeSur[k - this.colsCluster] : new int[0];
+        int m = (this.bordeEste[k].length + this.bordeSur[k].length + oeste.length + norte.length) / 2;
+        int[] ns = new int[m];
+        int[] ps = new int[m];
+        int j = 0;
+        // En los bordes propios la celda del cluster va primero; en los de los vecinos, segunda.
+        for (int[] borde : new int[][] { this.bordeEste[k], this.bordeSur[k] }) {
+            for (int i = 0; i < borde.length; i += 2, j++) {
+                ns[j] = borde[i];
+                ps[j] = borde[i + 1];
+            }
+        }
+        for (int[] borde : new int[][] { oeste, norte }) {
+            for (int i = 0; i < borde.length; i += 2, j++) {
+                ns[j] = borde[i + 1];
+                ps[j] = borde[i];
+            }
+        }
+        this.nodos[k] = ns;
+        this.parejas[k] = ps;
+        this.tablas[k] = null;
+    }
+
+    private int[] calcularBordeEste(int k) {
+        if (k % this.colsCluster == this.colsCluster - 1)
+            return new int[0];
+        caja(k);
+        int primera = this.filaCaja * this.cols + this.colCaja + this.anchoCaja - 1;
+        return calcularEntradas(primera, this.cols, this.altoCaja, 1);
+    }
+
+    private int[] calcularBordeSur(int k) {
+        if (k / this.colsCluster == this.filasCluster - 1)
+            return new int[0];
+        caja(k);
+        int primera = (this.filaCaja + this.altoCaja - 1) * this.cols + this.colCaja;
+        return calcularEntradas(primera, 1, this.anchoCaja, this.cols);
+    }
+
+    /**
+     * Recorre un borde buscando tramos con celdas libres a ambos lados y elige sus entradas.
+     *
+     * @param primera La primera celda del borde dentro del cluster.
+     * @param paso    La distancia entre celdas consecutivas del borde.
+     * @param largo   El número de celdas del borde.
+     * @param salto   La distancia de una celda del borde a su vecina del otro lado.
+     * @return Los pares (celda propia, celda vecina) de cada entrada.
+     */
+    private int[] calcularEntradas(int primera, int paso, int largo, int salto) {
+        int[] pares = new int[8];
+        int num = 0;
+        int i = 0;
+        while (i < largo) {
+            if (!abierto(primera + i * paso, salto)) {
+                i++;
+                continue;
+            }
+            int desde = i;
+            while (i < largo && abierto(primera + i * paso, salto))
+                i++;
+            int hasta = i - 1;
+            if (num + 4 > pares.length)
+                pares = Arrays.copyOf(pares, pares.length * 2);
+            if (hasta - desde + 1 >= LARGO_ENTRADA_DOBLE) {
+                int a = primera + desde * paso;
+                int b = primera + hasta * paso;
+                pares[num++] = a;
+                pares[num++] = a + salto;
+                pares[num++] = b;
+                pares[num++] = b + salto;
+            } else {
+                int c = primera + ((desde + hasta) / 2) * paso;
+                pares[num++] = c;
+                pares[num++] = c + salto;
+            }
+        }
+        return Arrays.copyOf(pares, num);
+    }
+
+    private boolean abierto(int celda, int salto) {
+        return !this.copia.isWall(celda) && !this.copia.isWall(celda + salto);
+    }
+}
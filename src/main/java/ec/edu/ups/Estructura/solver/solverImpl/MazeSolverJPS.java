@@ -0,0 +1,264 @@
+package ec.edu.ups.Estructura.solver.solverImpl;
+
+import java.util.Arrays;
+
+import ec.edu.ups.Estructura.models.Cell;
+import ec.edu.ups.Estructura.models.MazeGrid;
+import ec.edu.ups.Estructura.models.SolveResult;
+import ec.edu.ups.Estructura.solver.MazeSolver;
+import ec.edu.ups.Estructura.solver.SolveSink;
+
+/**
+ * `MazeSolverJPS` implementa la interfaz `MazeSolver` con Jump Point Search (JPS) para
+ * cuadrículas de 4 direcciones y costo uniforme.
+ *
+ * En lugar de abrir cada celda vecina, desde cada nodo se "salta" en línea recta hasta la
+ * siguiente celda interesante (punto de salto): el destino, una celda con un vecino forzado
+ * junto a un muro o, en los saltos verticales, una celda desde la que un salto horizontal
+ * encuentra otro punto de salto. Así, en salas grandes con pocos muros se evitan las muchas
+ * rutas simétricas que BFS y A* recorren celda a celda.
+ *
+ * Los puntos de salto se ordenan con A* (distancia Manhattan), por lo que el camino es óptimo.
+ * `visitadas` contiene solo los puntos de salto expandidos; el `camino` se completa celda a
+ * celda entre puntos de salto consecutivos.
+ */
+public class MazeSolverJPS implements MazeSolver {
+
+    // Direcciones iniciales desde la celda de inicio: abajo, arriba, derecha, izquierda.
+    private static final int[] DIR_FILA = { 1, -1, 0, 0 };
+    private static final int[] DIR_COL = { 0, 0, 1, -1 };
+
+    /**
+     * Encuentra el camino más corto desde la celda de inicio hasta la celda final usando JPS.
+     *
+     * @param paramArrayOfCell Un arreglo 2D de objetos `Cell` que representa la cuadrícula del laberinto.
+     * @param paramCell1 La `Cell` de inicio.
+     * @param paramCell2 La `Cell` final.
+     * @return Un objeto `SolveResult` con los puntos de salto expandidos y el camino completo.
+     */
+    @Override
+    public SolveResult getPath(Cell[][] paramArrayOfCell, Cell paramCell1, Cell paramCell2) {
+        MazeGrid grid = MazeGrid.fromCells(paramArrayOfCell);
+        return getPath(grid, grid.index(paramCell1.row, paramCell1.col), grid.index(paramCell2.row, paramCell2.col));
+    }
+
+    /**
+     * Ejecuta JPS sobre los índices planos de la cuadrícula compacta.
+     *
+     * @param grid  La cuadrícula compacta del laberinto.
+     * @param start El índice de la celda de inicio.
+     * @param end   El índice de la celda final.
+     * @return Un objeto `SolveResult` con los puntos de salto expandidos y el camino completo.
+     */
+    @Override
+    public SolveResult getPath(MazeGrid grid, int start, int end) {
+        SolverWorkspace ws = SolverWorkspace.actual();
+        int sello = buscar(grid, start, end, ws, null);
+        int[] visitadas = Arrays.copyOf(ws.orden, ws.numOrden);
+        int[] camino = reconstruir(grid, ws, end, sello);
+        return new SolveResult(grid.cellList(visitadas, visitadas.length), grid.cellList(camino, camino.length));
+    }
+
+    /**
+     * Ejecuta JPS avisando a {@code sink} cada punto de salto en el momento en que se expande.
+     *
+     * @param grid  La cuadrícula compacta del laberinto.
+     * @param start El índice de la celda de inicio.
+     * @param end   El índice de la celda final.
+     * @param sink  El receptor de los eventos.
+     * @return {@code true} si se encontró un camino.
+     */
+    @Override
+    public boolean solve(MazeGrid grid, int start, int end, SolveSink sink) {
+        SolverWorkspace ws = SolverWorkspace.actual();
+        int sello = buscar(grid, start, end, ws, sink);
+        int[] camino = reconstruir(grid, ws, end, sello);
+        for (int celda : camino)
+            sink.celdaDelCamino(celda);
+        sink.finalizado(camino.length > 0);
+        return camino.length > 0;
+    }
+
+    /**
+     * Ciclo principal de JPS. Deja el orden de visita en {@code ws.orden} y los padres en
+     * {@code ws.padre}.
+     *
+     * @param grid  La cuadrícula compacta del laberinto.
+     * @param start El índice de la celda de inicio.
+     * @param end   El índice de la celda final.
+     * @param ws    El espacio de trabajo del hilo.
+     * @param sink  El receptor de las celdas visitadas, o {@code null} para no avisar.
+     * @return El sello de la búsqueda.
+     */
+    private static int buscar(MazeGrid grid, int start, int end, SolverWorkspace ws, SolveSink sink) {
+        int cols = grid.getCols();
+        // Montículo, costos, padres y marcas con sello vienen del espacio de trabajo del hilo.
+        IndexedMinHeap abiertos = ws.monticulo;
+        abiertos.reset(grid.size());
+        int sello = ws.prepararPara(grid.size());
+        int[] costo = ws.costo;
+        int[] padre = ws.padre;
+        int[] expandidas = ws.orden;
+        int filaFin = end / cols;
+        int colFin = end % cols;
+        int numExpandidas = 0;
+
+        costo[start] = 0;
+        padre[start] = -1;
+        ws.vista[start] = sello;
+        abiertos.push(start, prioridad(0, distancia(start / cols, start % cols, filaFin, colFin)));
+
+        while (!abiertos.isEmpty()) {
+            int actual = abiertos.pop();
+            ws.cerrada[actual] = sello;
+            expandidas[numExpandidas++] = actual;
+            if (sink != null)
+                sink.celdaVisitada(actual);
+            if (actual == end)
+                break;
+
+            int fila = actual / cols;
+            int col = actual - fila * cols;
+            int anterior = padre[actual];
+            if (anterior < 0) {
+                // En el inicio se prueban las cuatro direcciones.
+                for (int d = 0; d < 4; d++)
+                    probarSalto(grid, ws, sello, actual, fila, col, DIR_FILA[d], DIR_COL[d], end, filaFin, colFin);
+            } else {
+                int df = Integer.signum(fila - anterior / cols);
+                int dc = Integer.signum(col - anterior % cols);
+                if (df == 0) {
+                    // Movimiento horizontal: seguir recto o girar hacia arriba o abajo.
+                    probarSalto(grid, ws, sello, actual, fila, col, 0, dc, end, filaFin, colFin);
+                    probarSalto(grid, ws, sello, actual, fila, col, -1, 0, end, filaFin, colFin);
+                    probarSalto(grid, ws, sello, actual, fila, col, 1, 0, end, filaFin, colFin);
+                } else {
+                    // Movimiento vertical: seguir recto o girar hacia los lados.
+                    probarSalto(grid, ws, sello, actual, fila, col, df, 0, end, filaFin, colFin);
+                    probarSalto(grid, ws, sello, actual, fila, col, 0, -1, end, filaFin, colFin);
+                    probarSalto(grid, ws, sello, actual, fila, col, 0, 1, end, filaFin, colFin);
+                }
+            }
+        }
+
+        ws.numOrden = numExpandidas;
+        return sello;
+    }
+
+    /**
+     * Salta desde {@code actual} en la dirección dada y, si encuentra un punto de salto, lo abre
+     * o mejora su costo.
+     */
+    private static void probarSalto(MazeGrid grid, SolverWorkspace ws, int sello, int actual, int fila, int col,
+                                    int df, int dc, int end, int filaFin, int colFin) {
+        int salto = saltar(grid, fila, col, df, dc, end);
+        if (salto < 0 || ws.cerrada[salto] == sello)
+            return;
+        int cols = grid.getCols();
+        int fs = salto / cols;
+        int cs = salto % cols;
+        int g = ws.costo[actual] + Math.abs(fs - fila) + Math.abs(cs - col);
+        if (ws.vista[salto] != sello || g < ws.costo[salto]) {
+            ws.vista[salto] = sello;
+            ws.costo[salto] = g;
+            ws.padre[salto] = actual;
+            ws.monticulo.push(salto, prioridad(g, distancia(fs, cs, filaFin, colFin)));
+        }
+    }
+
+    /**
+     * Avanza en línea recta desde (fila, col) hasta encontrar un punto de salto.
+     *
+     * @return El índice del punto de salto, o -1 si se choca con un muro o el borde.
+     */
+    private static int saltar(MazeGrid grid, int fila, int col, int df, int dc, int end) {
+        if (df == 0)
+            return saltarHorizontal(grid, fila, col, dc, end);
+        int cols = grid.getCols();
+        int f = fila + df;
+        while (libre(grid, f, col)) {
+            int indice = f * cols + col;
+            if (indice == end)
+                return indice;
+            // Vecino forzado: un lateral libre que en la fila anterior estaba bloqueado.
+            if ((libre(grid, f, col - 1) && !libre(grid, f - df, col - 1))
+                    || (libre(grid, f, col + 1) && !libre(grid, f - df, col + 1)))
+                return indice;
+            // En un salto vertical, la celda es punto de salto si un salto horizontal desde ella encuentra algo.
+            if (saltarHorizontal(grid, f, col, 1, end) >= 0 || saltarHorizontal(grid, f, col, -1, end) >= 0)
+                return indice;
+            f += df;
+        }
+        return -1;
+    }
+
+    /**
+     * Avanza horizontalmente desde (fila, col) hasta encontrar un punto de salto.
+     *
+     * @return El índice del punto de salto, o -1 si se choca con un muro o el borde.
+     */
+    private static int saltarHorizontal(MazeGrid grid, int fila, int col, int dc, int end) {
+        int cols = grid.getCols();
+        int c = col + dc;
+        while (libre(grid, fila, c)) {
+            int indice = fila * cols + c;
+            if (indice == end)
+                return indice;
+            // Vecino forzado: arriba o abajo libre que en la columna anterior estaba bloqueado.
+            if ((libre(grid, fila - 1, c) && !libre(grid, fila - 1, c - dc))
+                    || (libre(grid, fila + 1, c) && !libre(grid, fila + 1, c - dc)))
+                return indice;
+            c += dc;
+        }
+        return -1;
+    }
+
+    /**
+     * @return {@code true} si la posición está dentro de la cuadrícula y no es un muro.
+     */
+    private static boolean libre(MazeGrid grid, int fila, int col) {
+        return grid.inBounds(fila, col) && !grid.isWall(fila, col);
+    }
+
+    /**
+     * Distancia Manhattan entre dos celdas.
+     */
+    private static int distancia(int fila, int col, int filaFin, int colFin) {
+        return Math.abs(fila - filaFin) + Math.abs(col - colFin);
+    }
+
+    /**
+     * Prioridad en el montículo: primero {@code f = g + h}, y a igual {@code f}, menor {@code h}.
+     */
+    private static long prioridad(int g, int h) {
+        return ((long) (g + h) << 32) | h;
+    }
+
+    /**
+     * Reconstruye el camino completo rellenando las celdas entre puntos de salto consecutivos.
+     *
+     * @param grid  La cuadrícula compacta.
+     * @param ws    El espacio de trabajo con los padres de la búsqueda.
+     * @param end   El índice de la celda final.
+     * @param sello El sello de la búsqueda.
+     * @return Los índices del camino, o un arreglo vacío si no se alcanzó la celda final.
+     */
+    private static int[] reconstruir(MazeGrid grid, SolverWorkspace ws, int end, int sello) {
+        if (ws.cerrada[end] != sello)
+            return new int[0];
+        int[] padre = ws.padre;
+        int cols = grid.getCols();
+        int[] camino = new int[ws.costo[end] + 1];
+        int i = camino.length - 1;
+        camino[i] = end;
+        for (int c = end; padre[c] != -1; c = padre[c]) {
+            int p = padre[c];
+            // Los saltos son siempre en línea recta: se retrocede paso a paso hasta el punto anterior.
+            int paso = (p / cols == c / cols) ? Integer.signum(p - c) : Integer.signum(p - c) * cols;
+            for (int x = c + paso; x != p; x += paso)
+                camino[--i] = x;
+            camino[--i] = p;
+        }
+        return camino;
+    }
+}
@@ -0,0 +1,284 @@
+package ec.edu.ups.Estructura.solver.solverImpl;
+
+import java.util.Arrays;
+
+import ec.edu.ups.Estructura.models.Cell;
+import ec.edu.ups.Estructura.models.MazeGrid;
+import ec.edu.ups.Estructura.models.SolveResult;
+import ec.edu.ups.Estructura.solver.MazeSolver;
+import ec.edu.ups.Estructura.solver.SolveSink;
+
+/**
+ * `MazeSolverLPAStar` implementa la interfaz `MazeSolver` con Lifelong Planning A* (LPA*), una
+ * búsqueda incremental: conserva el árbol de caminos más cortos entre llamadas y, cuando el
+ * laberinto cambia, solo vuelve a expandir las celdas cuyo costo se ve afectado. Al poner o
+ * quitar un muro cerca del camino se reexpanden unas pocas celdas en lugar de todo el laberinto.
+ *
+ * Para cada celda se guardan {@code g} (el costo conocido desde el inicio) y {@code rhs} (el
+ * costo que se obtiene con un paso desde los vecinos); las celdas en las que no coinciden están
+ * en la frontera, ordenada por la clave {@code (min(g, rhs) + h, min(g, rhs))} empaquetada en un
+ * {@code long}. El costo de un paso es el de la celda a la que se entra, así que respeta los
+ * terrenos igual que Dijkstra.
+ *
+ * Los cambios se detectan comparando la cuadrícula con una copia tomada en la llamada anterior;
+ * si la versión de la cuadrícula no cambió ni siquiera se compara. Un cambio de cuadrícula,
+ * dimensiones, inicio o fin reinicia la búsqueda desde cero.
+ *
+ * A diferencia del resto de los solvers, esta clase guarda estado entre llamadas: sus métodos
+ * están sincronizados y conviene usar una instancia por laberinto que se edita.
+ */
+public class MazeSolverLPAStar implements MazeSolver {
+
+    // Desplazamientos de fila y columna para los cuatro vecinos (abajo, arriba, derecha, izquierda).
+    private static final int[] DIR_FILA = { 1, -1, 0, 0 };
+    private static final int[] DIR_COL = { 0, 0, 1, -1 };
+
+    /**
+     * Costo de una celda inalcanzable. Es la mitad del máximo para que sumarle un costo no desborde.
+     */
+    private static final int INF = Integer.MAX_VALUE / 2;
+
+    /**
+     * Si cambia más de esta fracción de las celdas, es más barato empezar de cero que reparar.
+     */
+    private static final int FRACCION_REINICIO = 8;
+
+    private MazeGrid grid;
+    /**
+     * Copia de los muros y costos con los que se calculó el estado actual.
+     */
+    private MazeGrid copia;
+    private long version;
+    private int start = -1;
+    private int end = -1;
+    private int rows;
+    private int cols;
+    private int[] g = new int[0];
+    private int[] rhs = new int[0];
+    private final IndexedMinHeap frontera = new IndexedMinHeap();
+    /**
+     * Celdas expandidas en la última llamada, en orden.
+     */
+    private int[] orden = new int[0];
+    private int numOrden;
+
+    /**
+     * Encuentra el camino más corto desde la celda de inicio hasta la celda final usando LPA*.
+     *
+     * @param paramArrayOfCell Un arreglo 2D de objetos `Cell` que representa la cuadrícula del laberinto.
+     * @param paramCell1 La `Cell` de inicio.
+     * @param paramCell2 La `Cell` final.
+     * @return Un objeto `SolveResult` con las celdas expandidas y el camino más corto (vacío si no existe).
+     */
+    @Override
+    public SolveResult getPath(Cell[][] paramArrayOfCell, Cell paramCell1, Cell paramCell2) {
+        MazeGrid grid = MazeGrid.fromCells(paramArrayOfCell);
+        return getPath(grid, grid.index(paramCell1.row, paramCell1.col), grid.index(paramCell2.row, paramCell2.col));
+    }
+
+    /**
+     * Actualiza el árbol de caminos con los cambios de la cuadrícula desde la última llamada.
+     *
+     * @param grid  La cuadrícula compacta del laberinto.
+     * @param start El índice de la celda de inicio.
+     * @param end   El índice de la celda final.
+     * @return Un objeto `SolveResult` con las celdas expandidas en esta llamada (en orden) y el camino más corto.
+     */
+    @Override
+    public synchronized SolveResult getPath(MazeGrid grid, int start, int end) {
+        buscar(grid, start, end, null);
+        int[] visitadas = Arrays.copyOf(this.orden, this.numOrden);
+        int[] camino = reconstruir();
+        return new SolveResult(grid.cellList(visitadas, visitadas.length), grid.cellList(camino, camino.length));
+    }
+
+    /**
+     * Actualiza el árbol de caminos avisando a {@code sink} cada celda que se expande.
+     *
+     * @param grid  La cuadrícula compacta del laberinto.
+     * @param start El índice de la celda de inicio.
+     * @param end   El índice de la celda final.
+     * @param sink  El receptor de los eventos.
+     * @return {@code true} si se encontró un camino.
+     */
+    @Override
+    public synchronized boolean solve(MazeGrid grid, int start, int end, SolveSink sink) {
+        buscar(grid, start, end, sink);
+        int[] camino = reconstruir();
+        for (int celda : camino)
+            sink.celdaDelCamino(celda);
+        sink.finalizado(camino.length > 0);
+        return camino.length > 0;
+    }
+
+    /**
+     * Sincroniza el estado con la cuadrícula y repara el árbol hasta que la celda final es consistente.
+     */
+    private void buscar(MazeGrid grid, int start, int end, SolveSink sink) {
+        this.numOrden = 0;
+        if (grid != this.grid || grid.getRows() != this.rows || grid.getCols() != this.cols
+                || start != this.start || end != this.end) {
+            reiniciar(grid, start, end);
+        } else if (grid.getVersion() != this.version) {
+            aplicarCambios();
+        }
+        this.version = grid.getVersion();
+        if (grid.isWall(start) || grid.isWall(end))
+            return;
+
+        while (!this.frontera.isEmpty()
+                && (this.frontera.peekPriority() < clave(end) || this.rhs[end] != this.g[end])) {
+            int u = this.frontera.pop();
+            if (this.numOrden == this.orden.length)
+                this.orden = Arrays.copyOf(this.orden, Math.max(16, this.orden.length * 2));
+            this.orden[this.numOrden++] = u;
+
+            if (this.g[u] > this.rhs[u]) {
+                // Sobreconsistente: se fija su costo y se propaga a los vecinos.
+                this.g[u] = this.rhs[u];
+                actualizarVecinos(u);
+            } else {
+                // Subconsistente (su costo empeoró): se invalida y se recalculan él y sus vecinos.
+                this.g[u] = INF;
+                actualizarCelda(u);
+                actualizarVecinos(u);
+            }
+            // Se avisa después de procesar la celda, para que el árbol siga siendo válido si el
+            // receptor interrumpe la búsqueda.
+            if (sink != null)
+                sink.celdaVisitada(u);
+        }
+    }
+
+    /**
+     * Descarta el estado anterior y prepara una búsqueda nueva desde {@code start}.
+     */
+    private void reiniciar(MazeGrid grid, int start, int end) {
+        int n = grid.size();
+        this.grid = grid;
+        this.copia = grid.copy();
+        this.rows = grid.getRows();
+        this.cols = grid.getCols();
+        this.start = start;
+        this.end = end;
+        if (this.g.length < n) {
+            this.g = new int[n];
+            this.rhs = new int[n];
+        }
+        Arrays.fill(this.g, 0, n, INF);
+        Arrays.fill(this.rhs, 0, n, INF);
+        this.frontera.reset(n);
+        this.rhs[start] = 0;
+        this.frontera.push(start, clave(start));
+    }
+
+    /**
+     * Recorre las celdas que cambiaron desde la última llamada y actualiza cada una y sus vecinos.
+     * Si cambió una parte grande del laberinto, reinicia en su lugar.
+     */
+    private void aplicarCambios() {
+        int limite = Math.max(1, this.grid.size() / FRACCION_REINICIO);
+        int cambios = 0;
+        for (int i = this.grid.firstDifference(this.copia, 0); i >= 0; i = this.grid.firstDifference(this.copia, i + 1)) {
+            if (++cambios > limite) {
+                reiniciar(this.grid, this.start, this.end);
+                return;
+            }
+            this.copia.setWall(i, this.grid.isWall(i));
+            this.copia.setCost(i, this.grid.getCost(i));
+            // Cambian las aristas que entran en la celda (su costo) y las que salen de ella (si es muro).
+            actualizarCelda(i);
+            actualizarVecinos(i);
+        }
+    }
+
+    /**
+     * Recalcula {@code rhs} de una celda a partir de sus vecinos y la pone en la frontera o la
+     * saca de ella según quede inconsistente o no.
+     */
+    private void actualizarCelda(int u) {
+        if (u != this.start) {
+            int mejor = INF;
+            if (!this.grid.isWall(u)) {
+                int fila = u / this.cols;
+                int col = u - fila * this.cols;
+                for (int d = 0; d < 4; d++) {
+                    int k = fila + DIR_FILA[d];
+                    int m = col + DIR_COL[d];
+                    if (k < 0 || k >= this.rows || m < 0 || m >= this.cols)
+                        continue;
+                    int v = k * this.cols + m;
+                    if (!this.grid.isWall(v) && this.g[v] < mejor)
+                        mejor = this.g[v];
+                }
+                if (mejor < INF)
+                    mejor += this.grid.getCost(u);
+            }
+            this.rhs[u] = mejor;
+        }
+        if (this.g[u] != this.rhs[u])
+            this.frontera.push(u, clave(u));
+        else
+            this.frontera.remove(u);
+    }
+
+    private void actualizarVecinos(int u) {
+        int fila = u / this.cols;
+        int col = u - fila * this.cols;
+        for (int d = 0; d < 4; d++) {
+            int k = fila + DIR_FILA[d];
+            int m = col + DIR_COL[d];
+            if (k >= 0 && k < this.rows && m >= 0 && m < this.cols)
+                actualizarCelda(k * this.cols + m);
+        }
+    }
+
+    /**
+     * Clave de una celda: {@code min(g, rhs) + h} en los 32 bits altos y {@code min(g, rhs)} en los bajos.
+     */
+    private long clave(int u) {
+        int costo = Math.min(this.g[u], this.rhs[u]);
+        int fila = u / this.cols;
+        int h = Math.abs(fila - this.end / this.cols) + Math.abs(u - fila * this.cols - this.end % this.cols);
+        return ((long) (costo + h) << 32) | costo;
+    }
+
+    /**
+     * Reconstruye el camino desde el inicio hasta el fin bajando por {@code g} desde el fin.
+     *
+     * @return Los índices del camino, o un arreglo vacío si el fin es inalcanzable.
+     */
+    private int[] reconstruir() {
+        if (this.grid.isWall(this.start) || this.grid.isWall(this.end) || this.g[this.end] >= INF)
+            return new int[0];
+        int[] inverso = new int[16];
+        int largo = 0;
+        int actual = this.end;
+        inverso[largo++] = actual;
+        while (actual != this.start) {
+            int fila = actual / this.cols;
+            int col = actual - fila * this.cols;
+            // El predecesor es el vecino con menor g; las celdas del camino óptimo ya son consistentes.
+            int siguiente = -1;
+            for (int d = 0; d < 4; d++) {
+                int k = fila + DIR_FILA[d];
+                int m = col + DIR_COL[d];
+                if (k < 0 || k >= this.rows || m < 0 || m >= this.cols)
+                    continue;
+                int v = k * this.cols + m;
+                if (!this.grid.isWall(v) && (siguiente < 0 || this.g[v] < this.g[siguiente]))
+                    siguiente = v;
+            }
+            if (siguiente < 0 || this.g[siguiente] >= this.g[actual] || largo > this.grid.size())
+                return new int[0];
+            actual = siguiente;
+            if (largo == inverso.length)
+                inverso = Arrays.copyOf(inverso, largo * 2);
+            inverso[largo++] = actual;
+        }
+        int[] camino = new int[largo];
+        for (int i = 0; i < largo; i++)
+            camino[i] = inverso[largo - 1 - i];
+        return camino;
+    }
+}
@@ -1,9 +1,6 @@
 package ec.edu.ups.Estructura.solver.solverImpl;
 
 import java.util.ArrayList;
-import java.util.LinkedHashSet;
-import java.util.List;
-import java.util.Set;
 import ec.edu.ups.Estructura.models.CellState;
 import ec.edu.ups.Estructura.models.Cell;
 import ec.edu.ups.Estructura.models.SolveResult;
@@ -17,63 +14,97 @@ import ec.edu.ups.Estructura.solver.MazeSolver;
  * @author Cristian Moscoso
  */
 public class MazeSolverRecursivo implements MazeSolver {
-    /**
-     * Almacena el conjunto de celdas que han sido visitadas para no procesarlas de nuevo.
-     * Se usa LinkedHashSet para mantener el orden de inserción.
-     */
-    private Set<Cell> visitadas = new LinkedHashSet<>();
-
-    /**
-     * Almacena la lista de celdas que forman el camino de la solución.
-     */
-    private List<Cell> camino = new ArrayList<>();
-
     /**
      * {@inheritDoc}
-     * Inicia el proceso de búsqueda recursiva. Limpia los estados anteriores
-     * y llama al método recursivo privado.
+     * Inicia el proceso de búsqueda recursiva. Toma las estructuras del espacio de
+     * trabajo del hilo, limpia los estados anteriores y llama al método privado.
      */
     public SolveResult getPath(Cell[][] paramArrayOfCell, Cell paramCell1, Cell paramCell2) {
-        this.visitadas.clear();
-        this.camino.clear();
-        findPath(paramArrayOfCell, paramCell1.row, paramCell1.col, paramCell2);
+        SolverWorkspace ws = SolverWorkspace.actual();
+        ws.limpiarCeldas();
+        ws.recorrido.reiniciar(paramArrayOfCell.length * paramArrayOfCell[0].length);
+        findPath(paramArrayOfCell, paramCell1.row, paramCell1.col, paramCell2, ws);
         // El camino se construye en orden inverso, así que no es necesario revertirlo
         // si se quisiera el orden de construcción. Para el camino real, se necesitaría revertir.
-        return new SolveResult(new ArrayList<>(this.visitadas), new ArrayList<>(this.camino));
+        SolveResult result = new SolveResult(ws.recorrido.comoCeldas(paramArrayOfCell, false), new ArrayList<>(ws.caminoCeldas));
+        ws.limpiarCeldas();
+        return result;
     }
 
     /**
-     * Método recursivo principal que busca el camino.
+     * Método principal que busca el camino. Recorre las celdas en el mismo orden que la
+     * versión recursiva (primero abajo, luego derecha), pero con una pila explícita para
+     * no desbordar la pila de llamadas en laberintos grandes.
      *
      * @param paramArrayOfCell El laberinto.
-     * @param paramInt1        La fila actual.
-     * @param paramInt2        La columna actual.
+     * @param paramInt1        La fila de inicio.
+     * @param paramInt2        La columna de inicio.
      * @param paramCell        La celda de destino.
-     * @return {@code true} si se encontró un camino desde la celda actual, {@code false} de lo contrario.
+     * @return {@code true} si se encontró un camino desde la celda de inicio, {@code false} de lo contrario.
      */
-    private boolean findPath(Cell[][] paramArrayOfCell, int paramInt1, int paramInt2, Cell paramCell) {
-        if (!isValid(paramArrayOfCell, paramInt1, paramInt2))
-            return false;
-        Cell cell = paramArrayOfCell[paramInt1][paramInt2];
-        if (this.visitadas.contains(cell))
+    private boolean findPath(Cell[][] paramArrayOfCell, int paramInt1, int paramInt2, Cell paramCell, SolverWorkspace ws) {
+        Cell cell = visitar(paramArrayOfCell, paramInt1, paramInt2, ws);
+        if (cell == null)
             return false;
-
-        this.visitadas.add(cell);
-
         if (cell.equals(paramCell)) {
-            this.camino.add(cell);
+            ws.caminoCeldas.add(cell);
             return true;
         }
 
-        // Intenta moverse hacia abajo o hacia la derecha.
-        if (findPath(paramArrayOfCell, paramInt1 + 1, paramInt2, paramCell) || findPath(paramArrayOfCell, paramInt1, paramInt2 + 1, paramCell)) {
-            // Si alguna de las llamadas recursivas tuvo éxito, se añade la celda actual al camino.
-            this.camino.add(cell);
-            return true;
+        // Cada marco de la pila guarda la celda y cuántas direcciones se han probado ya desde ella.
+        int capacidad = paramArrayOfCell.length * paramArrayOfCell[0].length;
+        Cell[] pila = ws.pilaCeldas(capacidad);
+        byte[] direcciones = ws.direcciones;
+        int tope = 0;
+        pila[tope] = cell;
+        direcciones[tope++] = 0;
+
+        while (tope > 0) {
+            Cell actual = pila[tope - 1];
+            int d = direcciones[tope - 1]++;
+            if (d == 2) {
+                // Ninguna dirección llevó al destino: se retrocede.
+                pila[--tope] = null;
+                continue;
+            }
+            // Intenta moverse hacia abajo (d = 0) o hacia la derecha (d = 1).
+            Cell siguiente = (d == 0)
+                    ? visitar(paramArrayOfCell, actual.row + 1, actual.col, ws)
+                    : visitar(paramArrayOfCell, actual.row, actual.col + 1, ws);
+            if (siguiente == null)
+                continue;
+            if (siguiente.equals(paramCell)) {
+                // El camino se arma desde el destino hacia el inicio, igual que al deshacer la recursión.
+                ws.caminoCeldas.add(siguiente);
+                while (tope > 0) {
+                    Cell celda = pila[--tope];
+                    pila[tope] = null;
+                    ws.caminoCeldas.add(celda);
+                }
+                return true;
+            }
+            pila[tope] = siguiente;
+            direcciones[tope++] = 0;
         }
         return false;
     }
 
+    /**
+     * Visita la celda indicada si es válida y aún no fue visitada.
+     *
+     * @param paramArrayOfCell El laberinto.
+     * @param paramInt1        La fila.
+     * @param paramInt2        La columna.
+     * @return La celda recién visitada, o {@code null} si no se puede visitar.
+     */
+    private Cell visitar(Cell[][] paramArrayOfCell, int paramInt1, int paramInt2, SolverWorkspace ws) {
+        if (!isValid(paramArrayOfCell, paramInt1, paramInt2))
+            return null;
+        if (!ws.recorrido.visitar(paramInt1 * paramArrayOfCell[0].length + paramInt2))
+            return null;
+        return paramArrayOfCell[paramInt1][paramInt2];
+    }
+
     /**
      * Verifica si una celda en las coordenadas dadas es válida para ser visitada.
      * Una celda es válida si está dentro de los límites del laberinto y no es un muro.
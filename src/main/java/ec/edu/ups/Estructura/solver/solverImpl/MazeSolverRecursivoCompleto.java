@@ -1,10 +1,6 @@
 package ec.edu.ups.Estructura.solver.solverImpl;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.LinkedHashSet;
-import java.util.List;
-import java.util.Set;
+import java.util.Arrays;
 
 import ec.edu.ups.Estructura.models.Cell;
 import ec.edu.ups.Estructura.models.CellState;
@@ -20,14 +16,9 @@ import ec.edu.ups.Estructura.solver.MazeSolver;
  */
 public class MazeSolverRecursivoCompleto implements MazeSolver {
 
-    // `visited` es un conjunto que almacena las celdas ya exploradas para evitar
-    // bucles infinitos y revisar celdas innecesariamente.
-    // Se usa `LinkedHashSet` para mantener el orden de visita.
-    private Set<Cell> visited = new LinkedHashSet<>();
-
-    // `camino` es una lista que construye el camino encontrado de la celda de
-    // inicio a la celda final.
-    private List<Cell> camino = new ArrayList<>();
+    // Desplazamientos en el orden de exploración: abajo, derecha, arriba, izquierda.
+    private static final int[] DIR_FILA = { 1, 0, -1, 0 };
+    private static final int[] DIR_COL = { 0, 1, 0, -1 };
 
     /**
      * Inicia la búsqueda de un camino desde la celda de inicio hasta la celda final
@@ -44,85 +35,84 @@ public class MazeSolverRecursivoCompleto implements MazeSolver {
     @Override
     public SolveResult getPath(Cell[][] paramArrayOfCell, Cell paramCell1, Cell paramCell2) {
         // Limpiar las estructuras de datos para una nueva búsqueda.
-        this.visited.clear();
-        this.camino.clear();
-
-        // Iniciar la búsqueda recursiva desde la celda de inicio.
-        findPath(paramArrayOfCell, paramCell1.row, paramCell1.col, paramCell2);
+        SolverWorkspace ws = SolverWorkspace.actual();
+        ws.recorrido.reiniciar(paramArrayOfCell.length * paramArrayOfCell[0].length);
 
-        // El camino se construye en orden inverso durante la recursión (del fin al inicio),
-        // así que lo revertimos para obtenerlo en el orden correcto.
-        Collections.reverse(this.camino);
+        // Iniciar la búsqueda desde la celda de inicio.
+        findPath(paramArrayOfCell, paramCell1.row, paramCell1.col, paramCell2, ws);
 
-        // Devolver el resultado de la búsqueda, incluyendo las celdas visitadas y el camino.
-        return new SolveResult(new ArrayList<>(this.visited), new ArrayList<>(this.camino));
+        // Como en la versión original, el camino son todas las celdas visitadas (nunca se quitan al
+        // retroceder) en orden inverso, así que se arma directamente desde el orden de visita.
+        return new SolveResult(ws.recorrido.comoCeldas(paramArrayOfCell, false), ws.recorrido.comoCeldas(paramArrayOfCell, true));
     }
 
     /**
-     * Método auxiliar recursivo para encontrar un camino en el laberinto.
-     * Explora las celdas adyacentes de forma recursiva hasta que se encuentra la celda objetivo.
+     * Método auxiliar para encontrar un camino en el laberinto.
+     * Explora las celdas adyacentes en el mismo orden que la versión recursiva
+     * (abajo, derecha, arriba, izquierda) usando una pila explícita en lugar de la pila de llamadas,
+     * de modo que no hay `StackOverflowError` en laberintos grandes.
      *
      * @param paramArrayOfCell El arreglo 2D de celdas que representa el laberinto.
-     * @param paramInt1 La coordenada de fila de la celda actual.
-     * @param paramInt2 La coordenada de columna de la celda actual.
+     * @param paramInt1 La coordenada de fila de la celda de inicio.
+     * @param paramInt2 La coordenada de columna de la celda de inicio.
      * @param paramCell La `Cell` objetivo (celda final).
-     * @return `true` si se encuentra un camino a la celda objetivo desde la celda actual, `false` en caso contrario.
+     * @return `true` si se encuentra un camino a la celda objetivo, `false` en caso contrario.
      */
-    private boolean findPath(Cell[][] paramArrayOfCell, int paramInt1, int paramInt2, Cell paramCell) {
-        // 1. Verificar si la celda actual es válida (dentro de los límites y no es una pared).
-        if (!isValid(paramArrayOfCell, paramInt1, paramInt2)) {
+    private boolean findPath(Cell[][] paramArrayOfCell, int paramInt1, int paramInt2, Cell paramCell, SolverWorkspace ws) {
+        Cell cell = visitar(paramArrayOfCell, paramInt1, paramInt2, ws);
+        if (cell == null)
             return false;
-        }
-
-        Cell cell = paramArrayOfCell[paramInt1][paramInt2];
-
-        // 2. Si la celda ya ha sido visitada, significa que ya hemos explorado este camino
-        // o hay un ciclo, por lo tanto, no se continúa.
-        if (this.visited.contains(cell)) {
-            return false;
-        }
-
-        // 3. Marcar la celda actual como visitada.
-        this.visited.add(cell);
-        // Añadir la celda actual al camino. Si este camino no lleva a la meta, se puede
-        // remover de aquí, pero en esta implementación se mantiene.
-        // *Nota: En un DFS puro para encontrar el camino, la celda se añade al camino
-        // *solo si la exploración a través de ella efectivamente lleva al destino.
-        // *En esta versión, se añade antes de explorar y se basa en el `Collections.reverse` final.
-        this.camino.add(cell);
-
-        // 4. Si la celda actual es la celda objetivo, hemos encontrado el camino.
-        if (cell.equals(paramCell)) {
-            // Ya se añadió la celda en `this.camino.add(cell)` anteriormente,
-            // por lo que agregarla de nuevo sería duplicarla.
-            // Para una lógica más limpia, la celda solo debería añadirse al camino
-            // cuando se sabe que es parte de un camino exitoso de regreso de la recursión.
-            // En esta implementación, el `Collections.reverse` al final corrige el orden.
+        if (cell.equals(paramCell))
             return true;
-        }
 
-        // 5. Explorar recursivamente las celdas adyacentes: abajo, derecha, arriba, izquierda.
-        // La exploración se detiene tan pronto como una rama encuentra el camino a la celda objetivo.
-        if (findPath(paramArrayOfCell, paramInt1 + 1, paramInt2, paramCell) || // Moverse hacia abajo
-                findPath(paramArrayOfCell, paramInt1, paramInt2 + 1, paramCell) || // Moverse hacia la derecha
-                findPath(paramArrayOfCell, paramInt1 - 1, paramInt2, paramCell) || // Moverse hacia arriba
-                findPath(paramArrayOfCell, paramInt1, paramInt2 - 1, paramCell)) { // Moverse hacia la izquierda
-            return true; // Si alguna de las llamadas recursivas encuentra el camino, retornar true.
+        // Cada marco de la pila guarda la celda y la siguiente dirección que falta probar.
+        int capacidad = paramArrayOfCell.length * paramArrayOfCell[0].length;
+        Cell[] pila = ws.pilaCeldas(capacidad);
+        byte[] direcciones = ws.direcciones;
+        int tope = 0;
+        pila[tope] = cell;
+        direcciones[tope++] = 0;
+
+        while (tope > 0) {
+            Cell actual = pila[tope - 1];
+            int d = direcciones[tope - 1]++;
+            if (d == 4) {
+                // Ninguna dirección desde esta celda lleva al objetivo: se retrocede.
+                // Como en la versión recursiva, la celda permanece en `camino`.
+                pila[--tope] = null;
+                continue;
+            }
+            Cell siguiente = visitar(paramArrayOfCell, actual.row + DIR_FILA[d], actual.col + DIR_COL[d], ws);
+            if (siguiente == null)
+                continue;
+            if (siguiente.equals(paramCell)) {
+                // La pila pertenece al espacio de trabajo del hilo: no debe retener celdas.
+                Arrays.fill(pila, 0, tope, null);
+                return true;
+            }
+            pila[tope] = siguiente;
+            direcciones[tope++] = 0;
         }
-
-        // Si ninguna de las direcciones exploradas desde esta celda lleva a la celda objetivo,
-        // significa que esta celda no forma parte del camino.
-        // *Nota: Para una implementación estricta donde `camino` solo contenga el path,
-        // *aquí se debería remover `cell` de `this.camino` usando `this.camino.remove(this.camino.size() - 1);`
-        // *Esto es crucial para que `camino` represente solo el camino encontrado.
-        // *La implementación actual confía en que `Collections.reverse` y el orden de adición
-        // *finalmente produzcan el camino correcto si se encontró uno.
-        // *Si no se encuentra un camino, `camino` contendrá las celdas de la última rama explorada antes de retroceder.
-        // *El `Collections.reverse` al final puede producir un camino incorrecto si la celda final no fue alcanzada.
-        // *Sería más robusto que la adición a `camino` solo ocurra al retornar `true` desde las llamadas recursivas.
         return false;
     }
 
+    /**
+     * Visita la celda indicada si es válida y no ha sido visitada: la marca como visitada, lo
+     * que también la añade al camino.
+     *
+     * @param paramArrayOfCell El arreglo 2D de celdas que representa el laberinto.
+     * @param paramInt1 La coordenada de fila.
+     * @param paramInt2 La coordenada de columna.
+     * @return La celda recién visitada, o `null` si no se puede visitar.
+     */
+    private Cell visitar(Cell[][] paramArrayOfCell, int paramInt1, int paramInt2, SolverWorkspace ws) {
+        if (!isValid(paramArrayOfCell, paramInt1, paramInt2))
+            return null;
+        if (!ws.recorrido.visitar(paramInt1 * paramArrayOfCell[0].length + paramInt2))
+            return null;
+        return paramArrayOfCell[paramInt1][paramInt2];
+    }
+
     /**
      * Método auxiliar para verificar si una celda dada por sus coordenadas es válida para la exploración.
      * Una celda es válida si está dentro de los límites del laberinto y no es una pared.
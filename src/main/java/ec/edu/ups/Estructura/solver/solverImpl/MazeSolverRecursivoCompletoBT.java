@@ -14,13 +14,9 @@ import java.util.*;
  */
 public class MazeSolverRecursivoCompletoBT implements MazeSolver {
 
-    // `visited` es un conjunto que rastrea las celdas ya visitadas para evitar ciclos
-    // y revisitas innecesarias. Se utiliza `LinkedHashSet` para mantener el orden de inserción.
-    private Set<Cell> visited = new LinkedHashSet<>();
-
-    // `camino` es una lista que almacena las celdas que forman el camino actual que se está explorando.
-    // Con el backtracking, las celdas se añaden y se eliminan a medida que se avanza y se retrocede.
-    private List<Cell> camino = new ArrayList<>();
+    // Desplazamientos en el orden de exploración: abajo, derecha, arriba, izquierda.
+    private static final int[] DIR_FILA = { 1, 0, -1, 0 };
+    private static final int[] DIR_COL = { 0, 1, 0, -1 };
 
     /**
      * Inicia la búsqueda de un camino desde la celda de inicio hasta la celda final
@@ -37,67 +33,92 @@ public class MazeSolverRecursivoCompletoBT implements MazeSolver {
     @Override
     public SolveResult getPath(Cell[][] paramArrayOfCell, Cell paramCell1, Cell paramCell2) {
         // Limpiar las estructuras de datos al inicio de cada nueva búsqueda.
-        this.visited.clear();
-        this.camino.clear();
+        SolverWorkspace ws = SolverWorkspace.actual();
+        ws.limpiarCeldas();
+        ws.recorrido.reiniciar(paramArrayOfCell.length * paramArrayOfCell[0].length);
 
-        // Iniciar la búsqueda recursiva desde la celda de inicio.
-        findPath(paramArrayOfCell, paramCell1.row, paramCell1.col, paramCell2);
+        // Iniciar la búsqueda desde la celda de inicio.
+        findPath(paramArrayOfCell, paramCell1.row, paramCell1.col, paramCell2, ws);
 
-        // El camino se construye desde el destino hacia el origen durante la recursión,
-        // por lo que necesitamos invertirlo para tenerlo en el orden correcto (inicio a fin).
-        Collections.reverse(this.camino);
+        // Se invierte el camino al terminar, igual que en la versión recursiva original.
+        Collections.reverse(ws.caminoCeldas);
 
         // Devolver el resultado de la búsqueda, incluyendo las celdas visitadas y el camino final.
-        return new SolveResult(new ArrayList<>(this.visited), new ArrayList<>(this.camino));
+        SolveResult result = new SolveResult(ws.recorrido.comoCeldas(paramArrayOfCell, false), new ArrayList<>(ws.caminoCeldas));
+        ws.limpiarCeldas();
+        return result;
     }
 
     /**
-     * Método auxiliar recursivo que implementa la lógica de Búsqueda en Profundidad (DFS) con backtracking.
-     * Explora el laberinto, añadiendo celdas al camino y retrocediendo si un camino no es válido.
+     * Método auxiliar que implementa la lógica de Búsqueda en Profundidad (DFS) con backtracking.
+     * Explora el laberinto en el mismo orden que la versión recursiva (abajo, derecha, arriba, izquierda),
+     * añadiendo celdas al camino y retrocediendo si un camino no es válido. La pila de llamadas se
+     * reemplaza por una pila explícita, así que la profundidad no está limitada por `-Xss`.
      *
      * @param paramArrayOfCell El arreglo 2D de celdas que representa el laberinto.
-     * @param paramInt1 La coordenada de fila de la celda actual.
-     * @param paramInt2 La coordenada de columna de la celda actual.
+     * @param paramInt1 La coordenada de fila de la celda de inicio.
+     * @param paramInt2 La coordenada de columna de la celda de inicio.
      * @param paramCell La `Cell` objetivo (celda final) que se busca.
-     * @return `true` si se encontró un camino a la celda objetivo desde la celda actual, `false` en caso contrario.
+     * @return `true` si se encontró un camino a la celda objetivo, `false` en caso contrario.
      */
-    private boolean findPath(Cell[][] paramArrayOfCell, int paramInt1, int paramInt2, Cell paramCell) {
-        // 1. **Condición de límite / Invalidación**: Verifica si la celda está fuera de los límites,
-        // es una pared o ya ha sido visitada en la ruta actual.
-        if (!isValid(paramArrayOfCell, paramInt1, paramInt2)) {
-            return false;
-        }
-        Cell cell = paramArrayOfCell[paramInt1][paramInt2];
-        if (this.visited.contains(cell)) { // Importante: `visited` aquí es para la rama actual de exploración
+    private boolean findPath(Cell[][] paramArrayOfCell, int paramInt1, int paramInt2, Cell paramCell, SolverWorkspace ws) {
+        // 1. **Marcar y añadir al camino** la celda de inicio, si es válida.
+        Cell cell = visitar(paramArrayOfCell, paramInt1, paramInt2, ws);
+        if (cell == null)
             return false;
-        }
-
-        // 2. **Marcar y añadir al camino**: Si la celda es válida y no visitada en esta ruta,
-        // la marcamos como visitada y la añadimos al camino temporal.
-        this.visited.add(cell);
-        this.camino.add(cell);
+        if (cell.equals(paramCell))
+            return true;
 
-        // 3. **Condición de éxito**: Si la celda actual es la celda objetivo, hemos encontrado el camino.
-        if (cell.equals(paramCell)) {
-            return true; // Un camino válido ha sido encontrado.
-        }
+        // La pila explícita coincide con `camino`: cada marco guarda la siguiente dirección a probar.
+        int capacidad = paramArrayOfCell.length * paramArrayOfCell[0].length;
+        Cell[] pila = ws.pilaCeldas(capacidad);
+        byte[] direcciones = ws.direcciones;
+        int tope = 0;
+        pila[tope] = cell;
+        direcciones[tope++] = 0;
 
-        // 4. **Explorar vecinos**: Intenta moverse en todas las direcciones posibles (abajo, derecha, arriba, izquierda).
-        // Si cualquiera de estas llamadas recursivas encuentra el camino, retornamos `true` inmediatamente.
-        if (findPath(paramArrayOfCell, paramInt1 + 1, paramInt2, paramCell) || // Moverse hacia abajo
-                findPath(paramArrayOfCell, paramInt1, paramInt2 + 1, paramCell) || // Moverse hacia la derecha
-                findPath(paramArrayOfCell, paramInt1 - 1, paramInt2, paramCell) || // Moverse hacia arriba
-                findPath(paramArrayOfCell, paramInt1, paramInt2 - 1, paramCell)) { // Moverse hacia la izquierda
-            return true; // Se encontró un camino a través de una de las direcciones.
+        while (tope > 0) {
+            Cell actual = pila[tope - 1];
+            int d = direcciones[tope - 1]++;
+            if (d == 4) {
+                // 2. **Backtracking**: ningún movimiento desde esta celda lleva al objetivo,
+                // así que se elimina del camino actual (sigue registrada en `visited`).
+                pila[--tope] = null;
+                ws.caminoCeldas.remove(ws.caminoCeldas.size() - 1);
+                continue;
+            }
+            // 3. **Explorar vecinos** en el orden abajo, derecha, arriba, izquierda.
+            Cell siguiente = visitar(paramArrayOfCell, actual.row + DIR_FILA[d], actual.col + DIR_COL[d], ws);
+            if (siguiente == null)
+                continue;
+            // 4. **Condición de éxito**: la celda objetivo ya está al final del camino.
+            if (siguiente.equals(paramCell)) {
+                // La pila pertenece al espacio de trabajo del hilo: no debe retener celdas.
+                Arrays.fill(pila, 0, tope, null);
+                return true;
+            }
+            pila[tope] = siguiente;
+            direcciones[tope++] = 0;
         }
+        return false; // Ningún camino lleva al objetivo.
+    }
 
-        // 5. **Backtracking**: Si ninguno de los movimientos desde la celda actual lleva a la celda objetivo,
-        // significa que esta celda no forma parte del camino. Por lo tanto, se "retrocede" (backtrack)
-        // eliminando la celda del camino actual. También se podría remover de `visited` si solo se quisiera
-        // registrar celdas que son parte del camino final, pero en esta implementación `visited` registra
-        // todas las celdas exploradas.
-        this.camino.remove(this.camino.size() - 1);
-        return false; // Este camino no lleva al objetivo.
+    /**
+     * Visita una celda si es válida y no ha sido visitada: la marca en `visited` y la añade al camino.
+     *
+     * @param paramArrayOfCell El arreglo 2D de celdas que representa el laberinto.
+     * @param paramInt1 La coordenada de fila.
+     * @param paramInt2 La coordenada de columna.
+     * @return La celda recién visitada, o `null` si está fuera de límites, es pared o ya fue visitada.
+     */
+    private Cell visitar(Cell[][] paramArrayOfCell, int paramInt1, int paramInt2, SolverWorkspace ws) {
+        if (!isValid(paramArrayOfCell, paramInt1, paramInt2))
+            return null;
+        if (!ws.recorrido.visitar(paramInt1 * paramArrayOfCell[0].length + paramInt2))
+            return null;
+        Cell cell = paramArrayOfCell[paramInt1][paramInt2];
+        ws.caminoCeldas.add(cell);
+        return cell;
     }
 
     /**
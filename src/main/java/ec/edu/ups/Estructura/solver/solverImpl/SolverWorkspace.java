@@ -0,0 +1,128 @@
+package ec.edu.ups.Estructura.solver.solverImpl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import ec.edu.ups.Estructura.models.Cell;
+
+/**
+ * Espacio de trabajo de un hilo para los algoritmos de resolución.
+ *
+ * Los solvers no guardan estado entre llamadas: cada búsqueda toma sus arreglos y estructuras
+ * auxiliares del espacio de trabajo del hilo que la ejecuta ({@link #actual()}). Así una misma
+ * instancia de solver puede atender búsquedas simultáneas desde varios hilos, y cada hilo
+ * reutiliza su memoria de una búsqueda a otra (solo crece con una cuadrícula más grande).
+ *
+ * Una búsqueda no debe ejecutar otro solver en el mismo hilo mientras usa el espacio de trabajo,
+ * porque ambos compartirían los mismos arreglos.
+ */
+final class SolverWorkspace {
+    private static final ThreadLocal<SolverWorkspace> ACTUAL = ThreadLocal.withInitial(SolverWorkspace::new);
+
+    /**
+     * Motor de BFS con su cola, padres y marcas.
+     */
+    final BfsEngine bfs = new BfsEngine();
+    /**
+     * Cola de prioridad de A* y JPS.
+     */
+    final IndexedMinHeap monticulo = new IndexedMinHeap();
+    /**
+     * Cola por cubetas de Dijkstra.
+     */
+    final BucketQueue cubetas = new BucketQueue();
+
+    // Arreglos por celda de las búsquedas sobre índices planos: costo acumulado, padre y
+    // marcas con sello (`vista` y `cerrada`), que no hace falta limpiar entre búsquedas.
+    int[] costo = new int[0];
+    int[] padre = new int[0];
+    int[] vista = new int[0];
+    int[] cerrada = new int[0];
+    int sello;
+
+    // `orden` guarda las celdas en el orden en que se visitaron; `numOrden` es su tamaño.
+    int[] orden = new int[0];
+    int numOrden;
+
+    // Pila explícita de los recorridos en profundidad: celda y siguiente dirección a probar.
+    int[] pila = new int[0];
+    byte[] direcciones = new byte[0];
+    Cell[] pilaCeldas = new Cell[0];
+
+    // Celdas visitadas (bits y orden de visita) de DFS y de los solvers recursivos.
+    final VisitTrace recorrido = new VisitTrace();
+
+    // Camino de los solvers recursivos, que trabajan con instancias de `Cell`.
+    final List<Cell> caminoCeldas = new ArrayList<>();
+
+    private SolverWorkspace() {
+    }
+
+    /**
+     * @return El espacio de trabajo del hilo actual.
+     */
+    static SolverWorkspace actual() {
+        return ACTUAL.get();
+    }
+
+    /**
+     * Prepara los arreglos por celda para una búsqueda en una cuadrícula de {@code n} celdas:
+     * asegura su capacidad, avanza el sello y vacía el orden de visita.
+     *
+     * @param n El número de celdas de la cuadrícula.
+     * @return El sello de la nueva búsqueda.
+     */
+    int prepararPara(int n) {
+        if (this.costo.length < n) {
+            this.costo = new int[n];
+            this.padre = new int[n];
+            this.vista = new int[n];
+            this.cerrada = new int[n];
+            this.orden = new int[n];
+            this.sello = 0;
+        }
+        if (this.sello == Integer.MAX_VALUE) {
+            Arrays.fill(this.vista, 0);
+            Arrays.fill(this.cerrada, 0);
+            this.sello = 0;
+        }
+        this.numOrden = 0;
+        return ++this.sello;
+    }
+
+    /**
+     * Prepara la pila de índices y las direcciones de DFS, sin tocar los demás arreglos por celda.
+     *
+     * @param n El número de celdas de la cuadrícula.
+     * @return La pila de índices, con capacidad para al menos {@code n} elementos.
+     */
+    int[] pilaIndices(int n) {
+        if (this.pila.length < n)
+            this.pila = new int[n];
+        if (this.direcciones.length < n)
+            this.direcciones = new byte[n];
+        return this.pila;
+    }
+
+    /**
+     * Prepara la pila de celdas y las direcciones de los solvers recursivos.
+     *
+     * @param n El número de celdas del laberinto.
+     * @return La pila de celdas, con capacidad para al menos {@code n} elementos.
+     */
+    Cell[] pilaCeldas(int n) {
+        if (this.pilaCeldas.length < n)
+            this.pilaCeldas = new Cell[n];
+        if (this.direcciones.length < n)
+            this.direcciones = new byte[n];
+        return this.pilaCeldas;
+    }
+
+    /**
+     * Suelta las celdas guardadas por un solver recursivo para no retener el laberinto.
+     */
+    void limpiarCeldas() {
+        this.caminoCeldas.clear();
+    }
+}
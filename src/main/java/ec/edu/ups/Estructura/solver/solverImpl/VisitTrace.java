@@ -0,0 +1,89 @@
+package ec.edu.ups.Estructura.solver.solverImpl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import ec.edu.ups.Estructura.models.Cell;
+
+/**
+ * Registro compacto de las celdas visitadas por un recorrido en profundidad: un conjunto de bits
+ * para saber en O(1) si una celda ya se visitó y un arreglo de enteros con los índices en el orden
+ * de visita, que es el que se anima.
+ *
+ * Cuesta un bit por celda de la cuadrícula más cuatro bytes por celda visitada, en lugar de la
+ * entrada enlazada y el hash de un {@code LinkedHashSet<Cell>}. Se reutiliza entre búsquedas:
+ * {@link #reiniciar(int)} solo borra los bits que se marcaron.
+ */
+final class VisitTrace {
+    private long[] bits = new long[0];
+    private int[] orden = new int[16];
+    private int size;
+
+    /**
+     * Vacía el registro y asegura espacio para una cuadrícula de {@code n} celdas.
+     *
+     * @param n El número de celdas de la cuadrícula.
+     */
+    void reiniciar(int n) {
+        int palabras = (n + 63) >>> 6;
+        if (this.bits.length < palabras) {
+            this.bits = new long[palabras];
+        } else if (this.size < palabras) {
+            for (int i = 0; i < this.size; i++)
+                this.bits[this.orden[i] >>> 6] = 0L;
+        } else {
+            Arrays.fill(this.bits, 0L);
+        }
+        this.size = 0;
+    }
+
+    /**
+     * Marca una celda como visitada y la agrega al final del orden.
+     *
+     * @param celda El índice plano de la celda.
+     * @return {@code false} si la celda ya estaba visitada.
+     */
+    boolean visitar(int celda) {
+        long mascara = 1L << celda;
+        int palabra = celda >>> 6;
+        if ((this.bits[palabra] & mascara) != 0)
+            return false;
+        this.bits[palabra] |= mascara;
+        if (this.size == this.orden.length)
+            this.orden = Arrays.copyOf(this.orden, this.size * 2);
+        this.orden[this.size++] = celda;
+        return true;
+    }
+
+    /**
+     * @return El número de celdas visitadas.
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * @return Una copia de los índices visitados, en orden.
+     */
+    int[] toArray() {
+        return Arrays.copyOf(this.orden, this.size);
+    }
+
+    /**
+     * Convierte el orden de visita en celdas del laberinto.
+     *
+     * @param celdas La cuadrícula de celdas con la que se calcularon los índices ({@code fila * columnas + columna}).
+     * @param invertido Si es {@code true}, la lista empieza por la última celda visitada.
+     * @return Una lista nueva con las celdas.
+     */
+    List<Cell> comoCeldas(Cell[][] celdas, boolean invertido) {
+        int cols = celdas[0].length;
+        List<Cell> lista = new ArrayList<>(this.size);
+        for (int i = 0; i < this.size; i++) {
+            int celda = this.orden[invertido ? this.size - 1 - i : i];
+            lista.add(celdas[celda / cols][celda % cols]);
+        }
+        return lista;
+    }
+}
@@ -0,0 +1,268 @@
+package ec.edu.ups.Estructura.vista;
+
+import ec.edu.ups.Estructura.models.Cell;
+import ec.edu.ups.Estructura.models.CellState;
+import ec.edu.ups.Estructura.models.MazeGrid;
+import ec.edu.ups.Estructura.solver.SolveSink;
+
+import javax.swing.Timer;
+import java.awt.Color;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Clase AnimationScheduler
+ *
+ * Anima sobre un {@link MazePanel} las celdas visitadas por un algoritmo y después su camino. En
+ * lugar de un hilo que duerme entre celda y celda, un {@link Timer} de Swing dispara un cuadro cada
+ * {@value #MS_POR_CUADRO} ms y en cada cuadro se pintan juntas varias celdas, según la velocidad.
+ * Como todo ocurre en el hilo de eventos, no se encola una tarea por celda.
+ *
+ * Cada panel tiene un único planificador y este anima una sola {@link Animacion} a la vez:
+ * empezar otra cancela la anterior. La animación se puede pausar, reanudar y cancelar.
+ *
+ * @author Cristian Moscoso
+ */
+public class AnimationScheduler {
+    /**
+     * Intervalo entre cuadros, en milisegundos (unos 60 cuadros por segundo).
+     */
+    public static final int MS_POR_CUADRO = 16;
+
+    /**
+     * Color de las celdas visitadas.
+     */
+    public static final Color COLOR_VISITADA = Color.LIGHT_GRAY;
+
+    /**
+     * Color de las celdas del camino.
+     */
+    public static final Color COLOR_CAMINO = Color.BLUE;
+
+    private final MazePanel panel;
+    private final Timer timer;
+    private Animacion actual;
+    private int celdasPorCuadro = 1;
+    private boolean pausada;
+    /**
+     * Celdas que se pintan en el cuadro actual, copiadas de la cola para pintarlas fuera del bloqueo.
+     */
+    private int[] lote = new int[0];
+
+    /**
+     * Crea el planificador de un panel.
+     *
+     * @param paramMazePanel El panel donde se pinta.
+     */
+    public AnimationScheduler(MazePanel paramMazePanel) {
+        this.panel = paramMazePanel;
+        this.timer = new Timer(MS_POR_CUADRO, paramActionEvent -> pintarCuadro());
+    }
+
+    /**
+     * Anima las listas ya calculadas de un resultado: primero las visitadas y luego el camino.
+     *
+     * @param paramList1 Las celdas visitadas, en orden.
+     * @param paramList2 Las celdas del camino, en orden.
+     */
+    public void animar(List<Cell> paramList1, List<Cell> paramList2) {
+        MazeGrid grid = this.panel.getGrid();
+        Animacion animacion = iniciar();
+        for (Cell cell : paramList1)
+            animacion.celdaVisitada(grid.index(cell.row, cell.col));
+        for (Cell cell : paramList2)
+            animacion.celdaDelCamino(grid.index(cell.row, cell.col));
+        animacion.finalizado(!paramList2.isEmpty());
+    }
+
+    /**
+     * Empieza una animación vacía, cancelando la que estuviera en curso. Las celdas se le agregan
+     * como {@link SolveSink}, desde cualquier hilo, y se pintan a medida que llegan.
+     *
+     * @return La nueva animación.
+     */
+    public Animacion iniciar() {
+        cancelar();
+        this.actual = new Animacion();
+        if (!this.pausada)
+            this.timer.start();
+        return this.actual;
+    }
+
+    /**
+     * Detiene la animación en curso y descarta las celdas que faltaban pintar.
+     */
+    public void cancelar() {
+        this.timer.stop();
+        if (this.actual != null) {
+            this.actual.cancelar();
+            this.actual = null;
+        }
+    }
+
+    /**
+     * Pausa o reanuda la animación. La pausa se mantiene para las animaciones siguientes.
+     *
+     * @param paramBoolean {@code true} para pausar.
+     */
+    public void setPausada(boolean paramBoolean) {
+        this.pausada = paramBoolean;
+        if (paramBoolean)
+            this.timer.stop();
+        else if (this.actual != null)
+            this.timer.start();
+    }
+
+    /**
+     * @return {@code true} si la animación está pausada.
+     */
+    public boolean isPausada() {
+        return this.pausada;
+    }
+
+    /**
+     * Cambia la velocidad de la animación.
+     *
+     * @param paramInt El número de celdas que se pintan en cada cuadro (al menos 1).
+     */
+    public void setCeldasPorCuadro(int paramInt) {
+        this.celdasPorCuadro = Math.max(1, paramInt);
+    }
+
+    /**
+     * @return El número de celdas que se pintan en cada cuadro.
+     */
+    public int getCeldasPorCuadro() {
+        return this.celdasPorCuadro;
+    }
+
+    /**
+     * @return {@code true} si hay una animación sin terminar, aunque esté pausada.
+     */
+    public boolean isAnimando() {
+        return this.actual != null;
+    }
+
+    /**
+     * Pinta el siguiente lote de celdas. Se ejecuta en el hilo de eventos.
+     */
+    private void pintarCuadro() {
+        Animacion animacion = this.actual;
+        if (animacion == null) {
+            this.timer.stop();
+            return;
+        }
+        if (this.lote.length < this.celdasPorCuadro)
+            this.lote = new int[this.celdasPorCuadro];
+        int n = animacion.tomar(this.lote, this.celdasPorCuadro);
+        Cell[][] cells = this.panel.getCells();
+        int cols = this.panel.getGrid().getCols();
+        for (int i = 0; i < n; i++) {
+            int valor = this.lote[i];
+            // Las celdas del camino se guardan como -(celda + 1).
+            boolean camino = valor < 0;
+            int celda = camino ? -valor - 1 : valor;
+            Cell cell = cells[celda / cols][celda % cols];
+            if (camino) {
+                if (cell.state != CellState.START && cell.state != CellState.END)
+                    this.panel.pintarCelda(cell.row, cell.col, COLOR_CAMINO); // Pinta el camino (excepto inicio/fin).
+            } else if (cell.state == CellState.EMPTY) {
+                this.panel.pintarCelda(cell.row, cell.col, COLOR_VISITADA); // Pinta solo celdas vacías como visitadas.
+            }
+        }
+        if (n == 0 && animacion.isTerminada()) {
+            this.timer.stop();
+            if (this.actual == animacion)
+                this.actual = null;
+        }
+    }
+
+    /**
+     * Una animación: la cola de celdas pendientes de pintar. Recibe las celdas como
+     * {@link SolveSink}, así que un algoritmo puede avisarlas directamente mientras se ejecuta en
+     * otro hilo; las que llegan después de cancelarla se descartan.
+     */
+    public static final class Animacion implements SolveSink {
+        /**
+         * Celdas pendientes: las visitadas como su índice y las del camino como {@code -(celda + 1)}.
+         */
+        private int[] cola = new int[64];
+        private int cabeza;
+        private int fin;
+        private int largoCamino;
+        private boolean finalizada;
+        private boolean cancelada;
+
+        @Override
+        public synchronized void celdaVisitada(int celda) {
+            agregar(celda);
+        }
+
+        @Override
+        public synchronized void celdaDelCamino(int celda) {
+            this.largoCamino++;
+            agregar(-celda - 1);
+        }
+
+        @Override
+        public synchronized void finalizado(boolean encontrado) {
+            this.finalizada = true;
+        }
+
+        private void agregar(int valor) {
+            if (this.cancelada)
+                return;
+            if (this.fin == this.cola.length) {
+                // Antes de crecer se descarta lo que ya se pintó.
+                int pendientes = this.fin - this.cabeza;
+                if (pendientes < this.cola.length / 2)
+                    System.arraycopy(this.cola, this.cabeza, this.cola, 0, pendientes);
+                else
+                    this.cola = Arrays.copyOfRange(this.cola, this.cabeza, this.cabeza + this.cola.length * 2);
+                this.cabeza = 0;
+                this.fin = pendientes;
+            }
+            this.cola[this.fin++] = valor;
+        }
+
+        /**
+         * Saca hasta {@code max} celdas de la cola.
+         *
+         * @return El número de celdas copiadas en {@code destino}.
+         */
+        synchronized int tomar(int[] destino, int max) {
+            int n = Math.min(max, this.fin - this.cabeza);
+            System.arraycopy(this.cola, this.cabeza, destino, 0, n);
+            this.cabeza += n;
+            return n;
+        }
+
+        synchronized void cancelar() {
+            this.cancelada = true;
+            this.cola = new int[0];
+            this.cabeza = 0;
+            this.fin = 0;
+        }
+
+        /**
+         * @return {@code true} si ya no llegarán más celdas y no quedan pendientes.
+         */
+        synchronized boolean isTerminada() {
+            return (this.finalizada || this.cancelada) && this.cabeza == this.fin;
+        }
+
+        /**
+         * @return {@code true} si la animación se canceló.
+         */
+        public synchronized boolean isCancelada() {
+            return this.cancelada;
+        }
+
+        /**
+         * @return El número de celdas del camino recibidas.
+         */
+        public synchronized int getLargoCamino() {
+            return this.largoCamino;
+        }
+    }
+}
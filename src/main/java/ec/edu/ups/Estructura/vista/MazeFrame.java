@@ -1,7 +1,10 @@
 package ec.edu.ups.Estructura.vista;
 import ec.edu.ups.Estructura.controlador.MazeController;
 import ec.edu.ups.Estructura.dao.AlgorithmResultDAO;
-import ec.edu.ups.Estructura.dao.DaoImpl.AlgorithmResultDAOFile;
+import ec.edu.ups.Estructura.dao.AlgorithmResultDAOFile;
+import ec.edu.ups.Estructura.dao.MazeDAO;
+import ec.edu.ups.Estructura.generator.MazeGenerator;
+import ec.edu.ups.Estructura.generator.MazeGenerators;
 import java.awt.BorderLayout;
 import java.awt.Color;
 import java.awt.Cursor;
@@ -13,17 +16,20 @@ import java.net.URI;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
+import java.util.function.Consumer;
 import javax.swing.*;
-import ec.edu.ups.Estructura.models.AlgorithmResult;
+import javax.swing.filechooser.FileNameExtensionFilter;
 import ec.edu.ups.Estructura.models.Cell;
 import ec.edu.ups.Estructura.models.CellState;
+import ec.edu.ups.Estructura.models.ConnectivityIndex;
+import ec.edu.ups.Estructura.models.Maze;
+import ec.edu.ups.Estructura.models.MazeGrid;
 import ec.edu.ups.Estructura.models.SolveResult;
+import ec.edu.ups.Estructura.models.Terrain;
 import ec.edu.ups.Estructura.solver.MazeSolver;
-import ec.edu.ups.Estructura.solver.solverImpl.MazeSolverBFS;
-import ec.edu.ups.Estructura.solver.solverImpl.MazeSolverDFS;
-import ec.edu.ups.Estructura.solver.solverImpl.MazeSolverRecursivo;
-import ec.edu.ups.Estructura.solver.solverImpl.MazeSolverRecursivoCompleto;
-import ec.edu.ups.Estructura.solver.solverImpl.MazeSolverRecursivoCompletoBT;
+import ec.edu.ups.Estructura.solver.MazeSolvers;
+import ec.edu.ups.Estructura.solver.SolveResultCache;
 
 /**
  * Clase MazeFrame
@@ -61,6 +67,51 @@ public class MazeFrame extends JFrame {
      */
     private final JButton pasoAPasoButton = new JButton("Paso a paso");
 
+    /**
+     * Casilla que activa la resolución en vivo: las celdas se dibujan mientras el algoritmo avanza.
+     */
+    private final JCheckBox enVivoCheck = new JCheckBox("En vivo");
+
+    /**
+     * Casilla que muestra sobre el laberinto la distancia de cada celda hasta la celda final.
+     */
+    private final JCheckBox campoCheck = new JCheckBox("Distancias");
+
+    /**
+     * Control de la velocidad de la animación: con el valor {@code v} se pintan {@code 2^v} celdas por cuadro.
+     */
+    private final JSlider velocidadSlider = new JSlider(0, 12, 0);
+
+    /**
+     * Botón que pausa y reanuda la animación.
+     */
+    private final JToggleButton pausaButton = new JToggleButton("Pausa");
+
+    /**
+     * Resultados recientes, para no volver a resolver el mismo laberinto con el mismo algoritmo.
+     */
+    private final SolveResultCache resultCache = new SolveResultCache(32);
+
+    /**
+     * Componentes conexas del laberinto, para avisar al instante cuando no hay camino.
+     */
+    private ConnectivityIndex conectividad;
+
+    /**
+     * Etiqueta con los aciertos y fallos de la caché de resultados.
+     */
+    private final JLabel cacheLabel = new JLabel();
+
+    /**
+     * Etiqueta con el progreso de la búsqueda en curso (celdas visitadas).
+     */
+    private final JLabel progresoLabel = new JLabel();
+
+    /**
+     * Algoritmo que se está ejecutando en segundo plano, o null si no hay ninguno.
+     */
+    private SolveWorker trabajo;
+
     /**
      * Lista de celdas visitadas durante la resolución en modo paso a paso.
      */
@@ -93,11 +144,11 @@ public class MazeFrame extends JFrame {
 
     // Bloque estático para inicializar el mapa de colores.
     static {
-        COLOR_MAP.put(CellState.EMPTY, Color.LIGHT_GRAY);
+        COLOR_MAP.put(CellState.EMPTY, AnimationScheduler.COLOR_VISITADA);
         COLOR_MAP.put(CellState.WALL, Color.BLACK);
         COLOR_MAP.put(CellState.START, Color.GREEN);
         COLOR_MAP.put(CellState.END, Color.RED);
-        COLOR_MAP.put(CellState.PATH, Color.BLUE);
+        COLOR_MAP.put(CellState.PATH, AnimationScheduler.COLOR_CAMINO);
     }
 
     /**
@@ -123,19 +174,29 @@ public class MazeFrame extends JFrame {
         JButton jButton1 = new JButton("Set Start");
         JButton jButton2 = new JButton("Set End");
         JButton jButton3 = new JButton("Toggle Wall");
+        JButton jButtonTerreno = new JButton("Terreno");
+        JComboBox<Terrain> terrainSelector = new JComboBox<>(Terrain.values()); // Terreno que se pinta en modo Terreno.
+        terrainSelector.setSelectedItem(Terrain.MUD);
 
         // Asigna ActionListeners a los botones para cambiar el modo del controlador.
         jButton1.addActionListener(paramActionEvent -> this.controller.setMode(MazeController.Mode.START));
         jButton2.addActionListener(paramActionEvent -> this.controller.setMode(MazeController.Mode.END));
         jButton3.addActionListener(paramActionEvent -> this.controller.setMode(MazeController.Mode.WALL));
+        jButtonTerreno.addActionListener(paramActionEvent -> this.controller.setMode(MazeController.Mode.TERRAIN));
+        terrainSelector.addActionListener(paramActionEvent -> this.controller.setTerrain((Terrain) terrainSelector.getSelectedItem()));
 
         jPanel1.add(jButton1);
         jPanel1.add(jButton2);
         jPanel1.add(jButton3);
+        jPanel1.add(jButtonTerreno);
+        jPanel1.add(terrainSelector);
+        JButton jButtonVista = new JButton("Ajustar vista"); // Quita el zoom y muestra todo el laberinto.
+        jButtonVista.addActionListener(paramActionEvent -> this.mazePanel.restablecerVista());
+        jPanel1.add(jButtonVista);
         add(jPanel1, "North"); // Agrega el panel de botones de modo en la parte superior.
 
-        // Opciones de algoritmos para el JComboBox.
-        String[] arrayOfString = { "Recursivo", "Recursivo Completo", "Recursivo Completo BT", "BFS", "DFS", "Backtracking" };
+        // Opciones de algoritmos para el JComboBox: los registrados en MazeSolvers, en su orden.
+        String[] arrayOfString = MazeSolvers.nombres().toArray(new String[0]);
         this.algorithmSelector = new JComboBox<>(arrayOfString); // Crea el JComboBox con los algoritmos.
         this.solveButton = new JButton("Resolver"); // Crea el botón de resolver.
 
@@ -144,25 +205,42 @@ public class MazeFrame extends JFrame {
         jPanel2.add(this.algorithmSelector);
         jPanel2.add(this.solveButton);
         jPanel2.add(this.pasoAPasoButton);
+        jPanel2.add(this.enVivoCheck);
+        jPanel2.add(this.campoCheck);
+        this.campoCheck.addActionListener(paramActionEvent -> this.mazePanel.setCampoVisible(this.campoCheck.isSelected()));
+        jPanel2.add(new JLabel("Velocidad:"));
+        jPanel2.add(this.velocidadSlider);
+        this.velocidadSlider.addChangeListener(paramChangeEvent ->
+                this.mazePanel.getAnimador().setCeldasPorCuadro(1 << this.velocidadSlider.getValue()));
+        jPanel2.add(this.pausaButton);
+        this.pausaButton.addActionListener(paramActionEvent -> this.mazePanel.getAnimador().setPausada(this.pausaButton.isSelected()));
+        JButton jButtonCancelar = new JButton("Cancelar");
+        jButtonCancelar.addActionListener(paramActionEvent -> cancelarBusqueda());
+        jPanel2.add(jButtonCancelar);
+        jPanel2.add(this.progresoLabel);
+        jPanel2.add(this.cacheLabel);
+        actualizarEstadoCache();
         add(jPanel2, "South"); // Agrega el panel de controles en la parte inferior.
 
         // ActionListener para el botón "Resolver".
         this.solveButton.addActionListener(paramActionEvent -> {
-            SolveResult solveResults = resolverYObtenerResultados(); // Resuelve el laberinto y obtiene los resultados.
-            if (solveResults != null)
-                animarVisitadas(solveResults.visitadas, solveResults.camino); // Anima las celdas visitadas y el camino.
+            if (this.enVivoCheck.isSelected()) {
+                resolverEnVivo(); // Dibuja las celdas a medida que el algoritmo las visita.
+                return;
+            }
+            // Resuelve el laberinto en segundo plano y después anima las celdas visitadas y el camino.
+            resolverYObtenerResultados(solveResults -> animarVisitadas(solveResults.visitadas, solveResults.camino));
         });
 
         // ActionListener para el botón "Paso a paso".
         this.pasoAPasoButton.addActionListener(paramActionEvent -> {
             if (!this.resolvioPasoAPaso) { // Si no ha empezado el paso a paso, lo inicializa.
-                SolveResult solveResults = resolverYObtenerResultados();
-                if (solveResults != null) {
+                resolverYObtenerResultados(solveResults -> {
                     this.pasoCeldasVisitadas = solveResults.visitadas;
                     this.pasoCamino = solveResults.camino;
                     this.pasoIndex = 0;
                     this.resolvioPasoAPaso = true;
-                }
+                });
             } else if (this.pasoIndex < this.pasoCeldasVisitadas.size()) { // Muestra las celdas visitadas paso a paso.
                 Cell cell = this.pasoCeldasVisitadas.get(this.pasoIndex++);
                 if (cell.state == CellState.EMPTY)
@@ -193,6 +271,15 @@ public class MazeFrame extends JFrame {
         JMenuItem jMenuItem1 = new JMenuItem("Nuevo laberinto");
         jMenuItem1.addActionListener(paramActionEvent -> reiniciarLaberinto()); // Acción para reiniciar el laberinto.
         jMenu1.add(jMenuItem1);
+        JMenuItem jMenuItemGenerar = new JMenuItem("Generar laberinto");
+        jMenuItemGenerar.addActionListener(paramActionEvent -> generarLaberinto()); // Acción para generar un laberinto aleatorio.
+        jMenu1.add(jMenuItemGenerar);
+        JMenuItem jMenuItemAbrir = new JMenuItem("Abrir laberinto");
+        jMenuItemAbrir.addActionListener(paramActionEvent -> abrirLaberinto()); // Acción para leer un laberinto de un archivo.
+        jMenu1.add(jMenuItemAbrir);
+        JMenuItem jMenuItemGuardar = new JMenuItem("Guardar laberinto");
+        jMenuItemGuardar.addActionListener(paramActionEvent -> guardarLaberinto()); // Acción para guardar el laberinto en un archivo.
+        jMenu1.add(jMenuItemGuardar);
         jMenuBar.add(jMenu1);
 
         JMenu jMenu2 = new JMenu("Ayuda");
@@ -213,61 +300,165 @@ public class MazeFrame extends JFrame {
     }
 
     /**
-     * Resuelve el laberinto utilizando el algoritmo seleccionado y devuelve los resultados.
+     * Resuelve el laberinto utilizando el algoritmo seleccionado, en segundo plano, y entrega los
+     * resultados en el hilo de eventos. Si hay un error o la búsqueda se cancela no se entrega nada.
      *
-     * @return Un objeto SolveResult con las celdas visitadas y el camino, o null si hay un error.
+     * @param paramConsumer Recibe el SolveResult con las celdas visitadas y el camino.
      */
-    private SolveResult resolverYObtenerResultados() {
+    private void resolverYObtenerResultados(Consumer<SolveResult> paramConsumer) {
         MazeSolver selectedSolver = null;
         Cell cell1 = this.controller.getStartCell(); // Obtiene la celda de inicio.
         Cell cell2 = this.controller.getEndCell(); // Obtiene la celda de fin.
 
         if (cell1 == null || cell2 == null) {
             JOptionPane.showMessageDialog(this, "Seleccione primero el origen y destino.");
-            return null;
+            return;
         }
 
         this.mazePanel.limpiarCeldasVisitadas(); // Limpia las celdas visitadas antes de una nueva resolución.
         limpiarPasoAPaso(); // Resetea el estado del modo paso a paso.
 
         String str = (String)this.algorithmSelector.getSelectedItem(); // Obtiene el algoritmo seleccionado.
-        // Selecciona la implementación del algoritmo de resolución basándose en la selección del usuario.
-        switch (str) {
-            case "Recursivo":
-                selectedSolver = new MazeSolverRecursivo();
-                break;
-            case "Recursivo Completo":
-                selectedSolver = new MazeSolverRecursivoCompleto();
-                break;
-            case "Recursivo Completo BT":
-                selectedSolver = new MazeSolverRecursivoCompletoBT();
-                break;
-            case "DFS":
-                selectedSolver = new MazeSolverDFS();
-                break;
-            case "BFS":
-                selectedSolver = new MazeSolverBFS();
-                break;
-            default:
-                selectedSolver = new MazeSolverRecursivo(); // Algoritmo predeterminado.
-                break;
-        }
+        // Se reutiliza la instancia compartida del algoritmo; como solo se resuelve un laberinto a la
+        // vez, los algoritmos que guardan estado entre búsquedas no se comparten entre hilos.
+        selectedSolver = MazeSolvers.get(str);
 
         if (selectedSolver == null) {
             JOptionPane.showMessageDialog(this, "Error: No se pudo inicializar el algoritmo.");
-            return null;
+            return;
         }
 
-        long l1 = System.nanoTime(); // Marca de tiempo de inicio.
-        SolveResult solveResults = selectedSolver.getPath(this.mazePanel.getCells(), cell1, cell2); // Ejecuta el algoritmo.
-        long l2 = System.nanoTime(); // Marca de tiempo de fin.
+        MazeGrid grid = this.mazePanel.getGrid(); // Representación compacta del laberinto.
+        int start = grid.index(cell1.row, cell1.col);
+        int end = grid.index(cell2.row, cell2.col);
+        if (!hayCamino(grid, start, end))
+            return;
+
+        // Si el laberinto no cambió desde la última vez, se reutiliza el resultado sin medir ni guardar.
+        SolveResult solveResults = this.resultCache.get(grid, str, start, end);
+        actualizarEstadoCache();
+        if (solveResults != null) {
+            paramConsumer.accept(solveResults);
+            return;
+        }
+        // El trabajo mide el tiempo y guarda el resultado fuera del hilo de eventos.
+        SolveWorker solveWorker = new SolveWorker(selectedSolver, str, grid, start, end, this.resultDAO, null);
+        ejecutarEnSegundoPlano(solveWorker, resultado -> {
+            if (!resultado.camino.isEmpty())
+                this.resultCache.put(grid, str, start, end, resultado);
+            paramConsumer.accept(resultado);
+        });
+    }
 
-        // Si se encontró un camino, guarda los resultados.
-        if (solveResults != null && !solveResults.camino.isEmpty()) {
-            AlgorithmResult algorithmResult = new AlgorithmResult(str, solveResults.camino.size(), l2 - l1);
-            this.resultDAO.save(algorithmResult); // Guarda el resultado del algoritmo.
+    /**
+     * Resuelve el laberinto en modo continuo: el algoritmo se ejecuta en otro hilo y avisa cada
+     * celda directamente a la animación del panel, que las pinta por lotes a medida que llegan,
+     * sin esperar a que termine. Como el algoritmo no se detiene a esperar a la animación, el
+     * tiempo que se registra es solo el de la búsqueda.
+     */
+    private void resolverEnVivo() {
+        Cell cell1 = this.controller.getStartCell(); // Obtiene la celda de inicio.
+        Cell cell2 = this.controller.getEndCell(); // Obtiene la celda de fin.
+        if (cell1 == null || cell2 == null) {
+            JOptionPane.showMessageDialog(this, "Seleccione primero el origen y destino.");
+            return;
         }
-        return solveResults;
+        this.mazePanel.limpiarCeldasVisitadas();
+        limpiarPasoAPaso();
+
+        String str = (String)this.algorithmSelector.getSelectedItem();
+        MazeSolver solver = MazeSolvers.get(str);
+        MazeGrid grid = this.mazePanel.getGrid();
+        int start = grid.index(cell1.row, cell1.col);
+        int end = grid.index(cell2.row, cell2.col);
+        if (!hayCamino(grid, start, end))
+            return;
+
+        AnimationScheduler.Animacion animacion = this.mazePanel.getAnimador().iniciar();
+        SolveWorker solveWorker = new SolveWorker(solver, str, grid, start, end, this.resultDAO, animacion);
+        ejecutarEnSegundoPlano(solveWorker, resultado -> {
+            if (!resultado.camino.isEmpty())
+                this.resultCache.put(grid, str, start, end, resultado);
+        });
+    }
+
+    /**
+     * Lanza un algoritmo en segundo plano. Mientras se ejecuta no se puede editar la cuadrícula ni
+     * lanzar otro, y la etiqueta de progreso muestra cuántas celdas lleva visitadas.
+     *
+     * @param paramSolveWorker El trabajo a lanzar.
+     * @param paramConsumer Recibe el resultado en el hilo de eventos si la búsqueda terminó bien.
+     */
+    private void ejecutarEnSegundoPlano(SolveWorker paramSolveWorker, Consumer<SolveResult> paramConsumer) {
+        this.trabajo = paramSolveWorker;
+        this.controller.setBloqueado(true);
+        this.solveButton.setEnabled(false);
+        this.pasoAPasoButton.setEnabled(false);
+        this.progresoLabel.setText("Visitadas: 0");
+        paramSolveWorker.setAlProgresar(paramInt -> {
+            if (this.trabajo == paramSolveWorker)
+                this.progresoLabel.setText("Visitadas: " + paramInt);
+        });
+        paramSolveWorker.setAlTerminar(paramSolveResult -> {
+            this.trabajo = null;
+            this.controller.setBloqueado(false);
+            this.solveButton.setEnabled(true);
+            this.pasoAPasoButton.setEnabled(true);
+            if (paramSolveWorker.isCancelled()) {
+                this.progresoLabel.setText("Búsqueda cancelada");
+            } else if (paramSolveResult == null) {
+                this.progresoLabel.setText("");
+                JOptionPane.showMessageDialog(this, "Error: El algoritmo no pudo resolver el laberinto.");
+            } else {
+                this.progresoLabel.setText("Visitadas: " + paramSolveResult.visitadas.size());
+                actualizarEstadoCache();
+                paramConsumer.accept(paramSolveResult);
+            }
+        });
+        paramSolveWorker.execute();
+    }
+
+    /**
+     * Cancela la búsqueda en segundo plano, si la hay, y la animación en curso.
+     */
+    private void cancelarBusqueda() {
+        if (this.trabajo != null)
+            this.trabajo.cancel(false);
+        this.mazePanel.getAnimador().cancelar();
+    }
+
+    /**
+     * Indica si hay un algoritmo ejecutándose en segundo plano y, en ese caso, avisa al usuario.
+     *
+     * @return {@code true} si hay que esperar a que termine o cancelarlo antes de cambiar el laberinto.
+     */
+    private boolean hayBusquedaEnCurso() {
+        if (this.trabajo == null)
+            return false;
+        JOptionPane.showMessageDialog(this, "Espere a que termine la búsqueda o cancélela.");
+        return true;
+    }
+
+    /**
+     * Consulta el índice de conectividad antes de lanzar un algoritmo: si el origen y el destino
+     * están en componentes distintas, avisa sin recorrer el laberinto.
+     *
+     * @return {@code false} si es seguro que no existe un camino.
+     */
+    private boolean hayCamino(MazeGrid grid, int start, int end) {
+        if (this.conectividad == null || this.conectividad.getGrid() != grid)
+            this.conectividad = new ConnectivityIndex(grid);
+        if (this.conectividad.conectadas(start, end))
+            return true;
+        JOptionPane.showMessageDialog(this, "No existe un camino entre el origen y el destino.");
+        return false;
+    }
+
+    /**
+     * Muestra en la etiqueta los aciertos y fallos de la caché de resultados.
+     */
+    private void actualizarEstadoCache() {
+        this.cacheLabel.setText("Caché: " + this.resultCache.getAciertos() + " aciertos / " + this.resultCache.getFallos() + " fallos");
     }
 
     /**
@@ -281,57 +472,24 @@ public class MazeFrame extends JFrame {
     }
 
     /**
-     * Pinta una celda en el MazePanel en el hilo de despacho de eventos de Swing.
-     *
-     * @param paramCell La celda a pintar.
-     * @param paramCellState El nuevo estado visual de la celda.
-     */
-    private void paintCellInvokeLater(Cell paramCell, CellState paramCellState) {
-        SwingUtilities.invokeLater(() -> paintCell(paramCell, paramCellState));
-    }
-
-    /**
-     * Pinta una celda en el MazePanel actualizando el color de su botón asociado.
+     * Pinta una celda en el MazePanel con el color de su estado.
      *
      * @param paramCell La celda a pintar.
      * @param paramCellState El estado de la celda que determina el color.
      */
     private void paintCell(Cell paramCell, CellState paramCellState) {
-        JButton jButton = this.mazePanel.getButton(paramCell.row, paramCell.col);
-        jButton.setBackground(COLOR_MAP.getOrDefault(paramCellState, Color.WHITE)); // Establece el color de fondo.
+        this.mazePanel.pintarCelda(paramCell.row, paramCell.col, COLOR_MAP.getOrDefault(paramCellState, Color.WHITE));
     }
 
     /**
      * Anima la visualización de las celdas visitadas y el camino encontrado en el laberinto.
+     * La animación reemplaza a la que estuviera en curso en el panel.
      *
      * @param paramList1 La lista de celdas visitadas por el algoritmo.
      * @param paramList2 La lista de celdas que forman el camino de la solución.
      */
     private void animarVisitadas(List<Cell> paramList1, List<Cell> paramList2) {
-        (new Thread(() -> { // Ejecuta la animación en un nuevo hilo para no bloquear la interfaz.
-            for (Cell cell : paramList1) { // Anima las celdas visitadas.
-                if (cell.state == CellState.EMPTY)
-                    paintCellInvokeLater(cell, CellState.EMPTY); // Pinta solo celdas vacías como visitadas.
-                try {
-                    Thread.sleep(30L); // Pausa para la animación.
-                } catch (InterruptedException interruptedException) {
-                    interruptedException.printStackTrace();
-                }
-            }
-            if (paramList2.isEmpty()) { // Si no hay camino, no anima nada más.
-                SwingUtilities.invokeLater(() -> {});
-                return;
-            }
-            for (Cell cell : paramList2) { // Anima el camino encontrado.
-                if (cell.state != CellState.START && cell.state != CellState.END)
-                    paintCellInvokeLater(cell, CellState.PATH); // Pinta las celdas del camino (excepto inicio/fin).
-                try {
-                    Thread.sleep(80L); // Pausa para la animación del camino.
-                } catch (InterruptedException interruptedException) {
-                    interruptedException.printStackTrace();
-                }
-            }
-        })).start(); // Inicia el hilo de animación.
+        this.mazePanel.getAnimador().animar(paramList1, paramList2);
     }
 
     /**
@@ -372,6 +530,100 @@ public class MazeFrame extends JFrame {
         SwingUtilities.invokeLater(() -> new MazeFrame(arrayOfInt[0], arrayOfInt[1]));
     }
 
+    /**
+     * Genera un laberinto con el algoritmo y la semilla que elija el usuario y lo carga en el panel.
+     * La misma semilla produce siempre el mismo laberinto.
+     */
+    private void generarLaberinto() {
+        if (hayBusquedaEnCurso())
+            return;
+        Object seleccion = JOptionPane.showInputDialog(this, "Seleccione el generador:", "Generar laberinto",
+                JOptionPane.QUESTION_MESSAGE, null, MazeGenerators.nombres().toArray(), null);
+        if (seleccion == null)
+            return; // Si el usuario cancela.
+        String str = JOptionPane.showInputDialog(this, "Ingrese la semilla:", new Random().nextInt(1_000_000));
+        if (str == null)
+            return; // Si el usuario cancela.
+        long semilla;
+        try {
+            semilla = Long.parseLong(str.trim());
+        } catch (NumberFormatException numberFormatException) {
+            JOptionPane.showMessageDialog(this, "Debe ingresar numero valido 😁");
+            return;
+        }
+        MazeGenerator generador = MazeGenerators.get((String) seleccion);
+        MazeGrid laberinto = generador.generate(this.mazePanel.getGrid().getRows(), this.mazePanel.getGrid().getCols(), semilla);
+        this.controller.cargarLaberinto(laberinto);
+        limpiarPasoAPaso(); // El recorrido anterior ya no corresponde al laberinto.
+    }
+
+    /**
+     * Crea el selector de archivos para abrir y guardar laberintos.
+     *
+     * @return Un JFileChooser filtrado a los formatos de laberinto.
+     */
+    private JFileChooser crearSelectorLaberinto() {
+        JFileChooser jFileChooser = new JFileChooser();
+        jFileChooser.setFileFilter(new FileNameExtensionFilter("Laberintos (*.mzb, *.txt)", "mzb", "txt"));
+        return jFileChooser;
+    }
+
+    /**
+     * Lee un laberinto de un archivo elegido por el usuario y lo muestra. Si sus dimensiones no
+     * coinciden con las del panel actual, se abre en una ventana nueva.
+     */
+    private void abrirLaberinto() {
+        if (hayBusquedaEnCurso())
+            return;
+        JFileChooser jFileChooser = crearSelectorLaberinto();
+        if (jFileChooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION)
+            return; // Si el usuario cancela.
+        String ruta = jFileChooser.getSelectedFile().getPath();
+        Maze maze = MazeDAO.paraArchivo(ruta).load(ruta);
+        if (maze == null) {
+            JOptionPane.showMessageDialog(this, "Error: No se pudo abrir el laberinto.");
+            return;
+        }
+        MazeGrid grid = this.mazePanel.getGrid();
+        if (maze.grid.getRows() == grid.getRows() && maze.grid.getCols() == grid.getCols()) {
+            mostrarLaberinto(maze);
+            return;
+        }
+        dispose(); // Cierra la ventana actual.
+        SwingUtilities.invokeLater(() -> new MazeFrame(maze.grid.getRows(), maze.grid.getCols()).mostrarLaberinto(maze));
+    }
+
+    /**
+     * Carga un laberinto leído de un archivo en el panel.
+     *
+     * @param paramMaze El laberinto, con las mismas dimensiones que el panel.
+     */
+    private void mostrarLaberinto(Maze paramMaze) {
+        this.controller.cargarLaberinto(paramMaze.grid, paramMaze.inicio, paramMaze.fin);
+        limpiarPasoAPaso(); // El recorrido anterior ya no corresponde al laberinto.
+    }
+
+    /**
+     * Guarda el laberinto actual, con su inicio y fin, en un archivo elegido por el usuario.
+     * El formato depende de la extensión; si no tiene una conocida, se guarda en binario.
+     */
+    private void guardarLaberinto() {
+        JFileChooser jFileChooser = crearSelectorLaberinto();
+        if (jFileChooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION)
+            return; // Si el usuario cancela.
+        String ruta = jFileChooser.getSelectedFile().getPath();
+        String minusculas = ruta.toLowerCase();
+        if (!minusculas.endsWith(MazeDAO.EXTENSION_BINARIA) && !minusculas.endsWith(MazeDAO.EXTENSION_TEXTO))
+            ruta += MazeDAO.EXTENSION_BINARIA;
+        MazeGrid grid = this.mazePanel.getGrid();
+        Cell inicio = this.controller.getStartCell();
+        Cell fin = this.controller.getEndCell();
+        Maze maze = new Maze(jFileChooser.getSelectedFile().getName(), grid,
+                inicio == null ? -1 : grid.index(inicio.row, inicio.col),
+                fin == null ? -1 : grid.index(fin.row, fin.col));
+        MazeDAO.paraArchivo(ruta).save(maze, ruta);
+    }
+
     /**
      * Muestra un cuadro de diálogo "Acerca de" con información sobre los desarrolladores y un enlace a GitHub.
      */
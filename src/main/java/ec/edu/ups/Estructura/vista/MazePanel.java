@@ -3,21 +3,63 @@ package ec.edu.ups.Estructura.vista;
 import ec.edu.ups.Estructura.controlador.MazeController;
 import ec.edu.ups.Estructura.models.Cell;
 import ec.edu.ups.Estructura.models.CellState;
+import ec.edu.ups.Estructura.models.MazeGrid;
+import ec.edu.ups.Estructura.models.Terrain;
+import ec.edu.ups.Estructura.solver.DistanceField;
 
 import javax.swing.*;
 import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseWheelEvent;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Clase MazePanel
  *
  * Esta clase representa el panel visual del laberinto en la interfaz gráfica.
- * Se encarga de dibujar las celdas del laberinto como botones y gestionar
- * las interacciones del usuario con estas celdas.
+ * Se encarga de dibujar las celdas del laberinto y gestionar las interacciones
+ * del usuario con estas celdas.
+ *
+ * Todo el laberinto es un único componente: el color de cada celda se guarda en un arreglo y
+ * {@link #paintComponent(Graphics)} solo dibuja las celdas que caen dentro del área a repintar.
+ * Cambiar el color de una celda repinta únicamente su rectángulo, así que el costo de pintar no
+ * depende del número de celdas sino de los píxeles que cambian.
+ *
+ * El panel es una ventana sobre el laberinto ampliado: la rueda del ratón acerca o aleja alrededor
+ * del puntero y arrastrar con el botón derecho (o el central) lo desplaza. El laberinto ampliado se
+ * dibuja por teselas de {@value #LADO_TESELA} píxeles que se guardan como imágenes; al pintar solo
+ * se copian las teselas visibles, y una celda que cambia de color se vuelve a dibujar únicamente
+ * sobre las teselas que toca. Las teselas se descartan al cambiar el zoom o el tamaño del panel.
+ *
+ * Cuando las celdas miden menos de {@value #LADO_MINIMO_LINEAS} píxeles (laberintos grandes o
+ * vistos de lejos) no se usan teselas: cambiar una celda es solo escribir su color en el arreglo, y
+ * en cada cuadro se llena una imagen del tamaño del panel escribiendo su arreglo de píxeles con el
+ * color de la celda que cae en cada píxel, y se copia de una vez. Así el costo de un cuadro depende
+ * del tamaño del panel y no de cuántas celdas cambiaron ni de cuántas hay.
  *
  * @author Moises Piguave
  * @since 7/28/2025
  */
 public class MazePanel extends JPanel {
+    /**
+     * Color de fondo de una celda libre según su terreno.
+     */
+    private static final Map<Terrain, Color> TERRAIN_COLORS = new EnumMap<>(Terrain.class);
+
+    // Bloque estático para inicializar los colores de terreno.
+    static {
+        TERRAIN_COLORS.put(Terrain.NORMAL, Color.WHITE);
+        TERRAIN_COLORS.put(Terrain.MUD, new Color(160, 110, 60));
+        TERRAIN_COLORS.put(Terrain.WATER, new Color(120, 170, 240));
+    }
+
     /**
      * Número de filas del laberinto.
      */
@@ -34,15 +76,123 @@ public class MazePanel extends JPanel {
     private final Cell[][] cells;
 
     /**
-     * Matriz de objetos JButton que representa los botones visuales de cada celda del laberinto.
+     * Color RGB con que se dibuja cada celda, indexado como la cuadrícula ({@code fila * columnas + columna}).
+     */
+    private final int[] colores;
+
+    /**
+     * Lado mínimo de una celda, en píxeles, para dibujar las líneas de la cuadrícula.
+     */
+    private static final int LADO_MINIMO_LINEAS = 6;
+
+    /**
+     * Lado de una tesela, en píxeles.
+     */
+    private static final int LADO_TESELA = 256;
+
+    /**
+     * Número máximo de teselas guardadas (unos 32 MB), suficientes para varias pantallas.
+     */
+    private static final int MAX_TESELAS = 128;
+
+    /**
+     * Celdas pendientes a partir de las cuales es más barato descartar las teselas que actualizarlas.
+     */
+    private static final int MAX_PENDIENTES = 1 << 16;
+
+    /**
+     * Factor de zoom por cada paso de la rueda del ratón.
+     */
+    private static final double PASO_ZOOM = 1.25;
+
+    /**
+     * Lado máximo de una celda, en píxeles, al acercar.
+     */
+    private static final int LADO_MAXIMO_CELDA = 64;
+
+    /**
+     * Ampliación respecto del laberinto ajustado al panel (1 = todo el laberinto visible).
      */
-    private final JButton[][] buttons;
+    private double zoom = 1.0;
+
+    /**
+     * Desplazamiento de la vista: el píxel del laberinto ampliado que se ve en la esquina superior izquierda.
+     */
+    private long desplX;
+    private long desplY;
+
+    /**
+     * Última posición del puntero mientras se arrastra la vista.
+     */
+    private int arrastreX;
+    private int arrastreY;
+
+    /**
+     * Teselas ya dibujadas del laberinto ampliado, de la menos a la más usada recientemente.
+     * La clave es {@code (columna de tesela << 32) | fila de tesela}.
+     */
+    private final LinkedHashMap<Long, BufferedImage> teselas = new LinkedHashMap<Long, BufferedImage>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, BufferedImage> eldest) {
+            return size() > MAX_TESELAS;
+        }
+    };
+
+    /**
+     * Tamaño del laberinto ampliado con el que se dibujaron las teselas.
+     */
+    private long anchoTeselas = -1;
+    private long altoTeselas = -1;
+
+    /**
+     * Imagen del tamaño del panel que se llena píxel a píxel cuando las celdas son pequeñas, y su
+     * arreglo de píxeles.
+     */
+    private BufferedImage cuadro;
+    private int[] pixelesCuadro;
+
+    /**
+     * Columna de celdas que cae en cada columna de píxeles del cuadro.
+     */
+    private int[] columnaDePixel = new int[0];
+
+    /**
+     * Indica si ya se pidió repintar el cuadro por celdas que cambiaron desde el último pintado.
+     */
+    private boolean cuadroPendiente;
+
+    /**
+     * Celdas que cambiaron de color desde el último pintado y aún no se dibujaron sobre las teselas.
+     */
+    private int[] pendientes = new int[64];
+    private int numPendientes;
+
+    /**
+     * Representación compacta del laberinto que usan los algoritmos de resolución.
+     * Se mantiene sincronizada con {@link #cells} desde el controlador.
+     */
+    private final MazeGrid grid;
 
     /**
      * Controlador del laberinto que maneja la lógica de negocio y las interacciones.
      */
     private MazeController controller;
 
+    /**
+     * Distancias de cada celda hasta la celda final, para la capa de distancias.
+     */
+    private final DistanceField campo = new DistanceField();
+
+    /**
+     * Indica si las celdas libres se colorean según su distancia a la celda final.
+     */
+    private boolean campoVisible;
+
+    /**
+     * Planificador de la animación de las resoluciones; hay uno solo por panel.
+     */
+    private final AnimationScheduler animador = new AnimationScheduler(this);
+
     /**
      * Constructor de la clase MazePanel.
      *
@@ -53,9 +203,45 @@ public class MazePanel extends JPanel {
         this.rows = paramInt1; // parametro 1
         this.cols = paramInt2; // parametro 2
         this.cells = new Cell[paramInt1][paramInt2];
-        this.buttons = new JButton[paramInt1][paramInt2];
-        setLayout(new GridLayout(paramInt1, paramInt2)); // Establece un GridLayout para organizar los botones.
-        initGrid(); // Inicializa la cuadrícula de botones y celdas.
+        this.colores = new int[paramInt1 * paramInt2];
+        setOpaque(true);
+        initGrid(); // Inicializa la cuadrícula de celdas.
+        this.grid = MazeGrid.fromCells(this.cells); // Adapta las celdas a la cuadrícula compacta.
+
+        // Un clic izquierdo se traduce en la celda que está bajo el puntero; los demás botones
+        // arrastran la vista y la rueda cambia el zoom.
+        MouseAdapter mouseAdapter = new MouseAdapter() {
+            @Override
+            public void mousePressed(MouseEvent paramMouseEvent) {
+                if (!SwingUtilities.isLeftMouseButton(paramMouseEvent)) {
+                    MazePanel.this.arrastreX = paramMouseEvent.getX();
+                    MazePanel.this.arrastreY = paramMouseEvent.getY();
+                    return;
+                }
+                int fila = filaEn(paramMouseEvent.getY());
+                int col = columnaEn(paramMouseEvent.getX());
+                if (MazePanel.this.controller != null && fila >= 0 && fila < MazePanel.this.rows && col >= 0 && col < MazePanel.this.cols)
+                    MazePanel.this.controller.onCellClicked(fila, col);
+            }
+
+            @Override
+            public void mouseDragged(MouseEvent paramMouseEvent) {
+                if (SwingUtilities.isLeftMouseButton(paramMouseEvent))
+                    return;
+                desplazar(MazePanel.this.arrastreX - paramMouseEvent.getX(), MazePanel.this.arrastreY - paramMouseEvent.getY());
+                MazePanel.this.arrastreX = paramMouseEvent.getX();
+                MazePanel.this.arrastreY = paramMouseEvent.getY();
+            }
+
+            @Override
+            public void mouseWheelMoved(MouseWheelEvent paramMouseWheelEvent) {
+                ampliar(paramMouseWheelEvent.getX(), paramMouseWheelEvent.getY(),
+                        Math.pow(PASO_ZOOM, -paramMouseWheelEvent.getPreciseWheelRotation()));
+            }
+        };
+        addMouseListener(mouseAdapter);
+        addMouseMotionListener(mouseAdapter);
+        addMouseWheelListener(mouseAdapter);
     }
 
     /**
@@ -68,50 +254,519 @@ public class MazePanel extends JPanel {
     }
 
     /**
-     * Inicializa la cuadrícula de celdas y botones.
-     * Crea un objeto Cell y un JButton para cada posición en la cuadrícula,
-     * configura su apariencia y añade un ActionListener a cada botón.
+     * Inicializa la cuadrícula de celdas.
+     * Crea un objeto Cell para cada posición en la cuadrícula, inicialmente libre y blanca.
      */
     private void initGrid() {
-        for (byte b = 0; b < this.rows; b++) {
-            for (byte b1 = 0; b1 < this.cols; b1++) {
-                Cell cell = new Cell(b, b1); // Crea una nueva celda lógica.
-                JButton jButton = new JButton(); // Crea un nuevo botón visual.
-                jButton.setBackground(Color.WHITE); // Establece el color de fondo predeterminado a blanco.
-                jButton.setOpaque(true); // Asegura que el color de fondo sea visible.
-                jButton.setBorder(BorderFactory.createLineBorder(Color.GRAY)); // Añade un borde gris.
-
-                final byte rowCoord = b; // Coordenada de fila para el ActionListener.
-                final byte colCoord = b1; // Coordenada de columna para el ActionListener.
-
-                // Agrega un ActionListener a cada botón para manejar clics.
-                jButton.addActionListener(paramActionEvent -> {
-                    if (this.controller != null)
-                        // Llama al método onCellClicked del controlador cuando se hace clic en una celda.
-                        this.controller.onCellClicked(rowCoord, colCoord);
-                });
-                add(jButton); // Añade el botón al panel.
-                this.cells[b][b1] = cell; // Almacena la celda lógica en la matriz.
-                this.buttons[b][b1] = jButton; // Almacena el botón visual en la matriz.
+        for (int b = 0; b < this.rows; b++) {
+            for (int b1 = 0; b1 < this.cols; b1++)
+                this.cells[b][b1] = new Cell(b, b1); // Crea una nueva celda lógica.
+        }
+        Arrays.fill(this.colores, Color.WHITE.getRGB() & 0xFFFFFF);
+    }
+
+    /**
+     * Copia las teselas que intersecan el área de recorte, dibujando las que faltan. Antes aplica
+     * sobre las teselas guardadas los cambios de color pendientes.
+     */
+    @Override
+    protected void paintComponent(Graphics paramGraphics) {
+        limitarDesplazamiento();
+        if (!lineasVisibles()) {
+            pintarCuadro(paramGraphics);
+            return;
+        }
+        long ancho = anchoMundo();
+        long alto = altoMundo();
+        if (ancho != this.anchoTeselas || alto != this.altoTeselas) {
+            // Cambió el zoom o el tamaño del panel: las teselas guardadas ya no sirven.
+            invalidarTeselas();
+            this.anchoTeselas = ancho;
+            this.altoTeselas = alto;
+        } else {
+            aplicarPendientes();
+        }
+
+        Rectangle clip = paramGraphics.getClipBounds();
+        if (clip == null)
+            clip = new Rectangle(0, 0, getWidth(), getHeight());
+        long xDesde = Math.max(0, clip.x + this.desplX);
+        long yDesde = Math.max(0, clip.y + this.desplY);
+        long xHasta = Math.min(ancho, (long) clip.x + clip.width + this.desplX) - 1;
+        long yHasta = Math.min(alto, (long) clip.y + clip.height + this.desplY) - 1;
+        for (long ty = yDesde / LADO_TESELA; ty <= yHasta / LADO_TESELA; ty++) {
+            for (long tx = xDesde / LADO_TESELA; tx <= xHasta / LADO_TESELA; tx++) {
+                BufferedImage tesela = tesela((int) tx, (int) ty);
+                paramGraphics.drawImage(tesela, (int) (tx * LADO_TESELA - this.desplX), (int) (ty * LADO_TESELA - this.desplY), null);
             }
         }
     }
 
+    /**
+     * Pinta la parte del panel dentro del área de recorte llenando directamente los píxeles del
+     * cuadro con el color de la celda que cae en cada uno, y después lo copia al panel.
+     */
+    private void pintarCuadro(Graphics paramGraphics) {
+        if (!this.teselas.isEmpty()) {
+            invalidarTeselas(); // Las teselas eran de otro zoom.
+            this.anchoTeselas = -1;
+        }
+        int ancho = getWidth();
+        int alto = getHeight();
+        if (ancho == 0 || alto == 0)
+            return;
+        if (this.cuadro == null || this.cuadro.getWidth() != ancho || this.cuadro.getHeight() != alto) {
+            this.cuadro = new BufferedImage(ancho, alto, BufferedImage.TYPE_INT_RGB);
+            this.pixelesCuadro = ((DataBufferInt) this.cuadro.getRaster().getDataBuffer()).getData();
+            this.columnaDePixel = new int[ancho];
+        }
+        Rectangle clip = paramGraphics.getClipBounds();
+        if (clip == null)
+            clip = new Rectangle(0, 0, ancho, alto);
+        clip = clip.intersection(new Rectangle(0, 0, ancho, alto));
+        if (clip.isEmpty())
+            return;
+        if (this.cuadroPendiente && (clip.width < ancho || clip.height < alto))
+            repaint(); // Pueden haber cambiado celdas fuera de esta área.
+        this.cuadroPendiente = false;
+
+        int xDesde = clip.x;
+        int xHasta = clip.x + clip.width;
+        for (int x = xDesde; x < xHasta; x++)
+            this.columnaDePixel[x] = columnaMundo(x + this.desplX);
+        int[] pixeles = this.pixelesCuadro;
+        int filaAnterior = -1;
+        for (int y = clip.y; y < clip.y + clip.height; y++) {
+            int fila = filaMundo(y + this.desplY);
+            int o = y * ancho;
+            if (fila == filaAnterior) {
+                // La misma fila de celdas que el píxel de arriba: se copia la línea.
+                System.arraycopy(pixeles, o - ancho + xDesde, pixeles, o + xDesde, clip.width);
+                continue;
+            }
+            int base = fila * this.cols;
+            for (int x = xDesde; x < xHasta; x++)
+                pixeles[o + x] = this.colores[base + this.columnaDePixel[x]];
+            filaAnterior = fila;
+        }
+        paramGraphics.drawImage(this.cuadro, xDesde, clip.y, xHasta, clip.y + clip.height,
+                xDesde, clip.y, xHasta, clip.y + clip.height, null);
+    }
+
+    /**
+     * Devuelve una tesela del laberinto ampliado, dibujándola si no estaba guardada.
+     */
+    private BufferedImage tesela(int tx, int ty) {
+        Long clave = ((long) tx << 32) | ty;
+        BufferedImage imagen = this.teselas.get(clave);
+        if (imagen != null)
+            return imagen;
+        long x0 = (long) tx * LADO_TESELA;
+        long y0 = (long) ty * LADO_TESELA;
+        int ancho = (int) Math.min(LADO_TESELA, anchoMundo() - x0);
+        int alto = (int) Math.min(LADO_TESELA, altoMundo() - y0);
+        imagen = new BufferedImage(ancho, alto, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = imagen.createGraphics();
+        g2.translate(-x0, -y0);
+        dibujarCeldas(g2, filaMundo(y0), filaMundo(y0 + alto - 1), columnaMundo(x0), columnaMundo(x0 + ancho - 1));
+        g2.dispose();
+        this.teselas.put(clave, imagen);
+        return imagen;
+    }
+
+    /**
+     * Dibuja un rango de celdas en coordenadas del laberinto ampliado. Cada fila y columna de
+     * celdas ocupa de {@code xMundo(c)} a {@code xMundo(c + 1)}; si una celda mide menos de un píxel
+     * se salta, de modo que cada píxel se dibuja una sola vez. Las celdas vecinas del mismo color se
+     * dibujan juntas.
+     */
+    private void dibujarCeldas(Graphics paramGraphics, int filaDesde, int filaHasta, int colDesde, int colHasta) {
+        int colorActual = -1;
+        for (int f = filaDesde; f <= filaHasta; f++) {
+            int y0 = yMundo(f);
+            int alto = yMundo(f + 1) - y0;
+            if (alto == 0)
+                continue;
+            int base = f * this.cols;
+            int c = colDesde;
+            while (c <= colHasta) {
+                int color = this.colores[base + c];
+                int x0 = xMundo(c);
+                // Extiende el tramo mientras las celdas siguientes tengan el mismo color.
+                int fin = c + 1;
+                while (fin <= colHasta && this.colores[base + fin] == color)
+                    fin++;
+                int ancho = xMundo(fin) - x0;
+                if (ancho > 0) {
+                    if (color != colorActual) {
+                        paramGraphics.setColor(new Color(color));
+                        colorActual = color;
+                    }
+                    paramGraphics.fillRect(x0, y0, ancho, alto);
+                }
+                c = fin;
+            }
+        }
+
+        // Las líneas de la cuadrícula reemplazan el borde gris de los antiguos botones.
+        if (lineasVisibles()) {
+            paramGraphics.setColor(Color.GRAY);
+            int xIzq = xMundo(colDesde);
+            int xDer = xMundo(colHasta + 1) - 1;
+            int ySup = yMundo(filaDesde);
+            int yInf = yMundo(filaHasta + 1) - 1;
+            for (int f = filaDesde; f <= filaHasta + 1; f++)
+                paramGraphics.drawLine(xIzq, yMundo(f) - (f == this.rows ? 1 : 0), xDer, yMundo(f) - (f == this.rows ? 1 : 0));
+            for (int c = colDesde; c <= colHasta + 1; c++)
+                paramGraphics.drawLine(xMundo(c) - (c == this.cols ? 1 : 0), ySup, xMundo(c) - (c == this.cols ? 1 : 0), yInf);
+        }
+    }
+
+    /**
+     * Dibuja las celdas pendientes sobre las teselas guardadas que tocan. Si son demasiadas, las
+     * teselas se descartan y se dibujarán de nuevo al mostrarse.
+     */
+    private void aplicarPendientes() {
+        if (this.numPendientes == 0)
+            return;
+        Map<Long, Graphics2D> graficos = new HashMap<>();
+        for (int i = 0; i < this.numPendientes; i++) {
+            int celda = this.pendientes[i];
+            int f = celda / this.cols;
+            int c = celda - f * this.cols;
+            long x0 = xMundo(c);
+            long y0 = yMundo(f);
+            long x1 = xMundo(c + 1);
+            long y1 = yMundo(f + 1);
+            for (long ty = y0 / LADO_TESELA; ty <= (y1 - 1) / LADO_TESELA; ty++) {
+                for (long tx = x0 / LADO_TESELA; tx <= (x1 - 1) / LADO_TESELA; tx++) {
+                    Long clave = (tx << 32) | ty;
+                    Graphics2D g2 = graficos.get(clave);
+                    if (g2 == null) {
+                        BufferedImage imagen = this.teselas.get(clave);
+                        if (imagen == null)
+                            continue; // Se dibujará completa cuando haga falta.
+                        g2 = imagen.createGraphics();
+                        g2.translate(-tx * LADO_TESELA, -ty * LADO_TESELA);
+                        graficos.put(clave, g2);
+                    }
+                    dibujarCeldas(g2, f, f, c, c);
+                }
+            }
+        }
+        for (Graphics2D g2 : graficos.values())
+            g2.dispose();
+        this.numPendientes = 0;
+    }
+
+    /**
+     * Descarta todas las teselas, por ejemplo después de cambiar el color de muchas celdas.
+     */
+    private void invalidarTeselas() {
+        this.teselas.clear();
+        this.numPendientes = 0;
+    }
+
+    /**
+     * @return {@code true} si las celdas miden al menos {@link #LADO_MINIMO_LINEAS} píxeles y se
+     *         dibujan por teselas con las líneas de la cuadrícula.
+     */
+    private boolean lineasVisibles() {
+        return anchoMundo() >= (long) this.cols * LADO_MINIMO_LINEAS && altoMundo() >= (long) this.rows * LADO_MINIMO_LINEAS;
+    }
+
+    /**
+     * @return El ancho del laberinto ampliado, en píxeles.
+     */
+    private long anchoMundo() {
+        return Math.max(1, Math.round(getWidth() * this.zoom));
+    }
+
+    /**
+     * @return El alto del laberinto ampliado, en píxeles.
+     */
+    private long altoMundo() {
+        return Math.max(1, Math.round(getHeight() * this.zoom));
+    }
+
+    /**
+     * @return La coordenada x, en el laberinto ampliado, del borde izquierdo de la columna {@code c}.
+     */
+    private int xMundo(int c) {
+        return (int) ((long) c * anchoMundo() / this.cols);
+    }
+
+    /**
+     * @return La coordenada y, en el laberinto ampliado, del borde superior de la fila {@code f}.
+     */
+    private int yMundo(int f) {
+        return (int) ((long) f * altoMundo() / this.rows);
+    }
+
+    /**
+     * @return La columna que contiene el píxel {@code x} del laberinto ampliado (la mayor {@code c} con {@code xMundo(c) <= x}).
+     */
+    private int columnaMundo(long x) {
+        return (int) (((x + 1) * this.cols - 1) / anchoMundo());
+    }
+
+    /**
+     * @return La fila que contiene el píxel {@code y} del laberinto ampliado.
+     */
+    private int filaMundo(long y) {
+        return (int) (((y + 1) * this.rows - 1) / altoMundo());
+    }
+
+    /**
+     * @return La coordenada x en el panel del borde izquierdo de la columna {@code c}.
+     */
+    private int xDe(int c) {
+        return (int) (xMundo(c) - this.desplX);
+    }
+
+    /**
+     * @return La coordenada y en el panel del borde superior de la fila {@code f}.
+     */
+    private int yDe(int f) {
+        return (int) (yMundo(f) - this.desplY);
+    }
+
+    /**
+     * @return La columna que contiene el píxel {@code x} del panel, o -1 si queda a la izquierda del laberinto.
+     */
+    private int columnaEn(int x) {
+        if (x + this.desplX < 0 || getWidth() == 0)
+            return -1;
+        return columnaMundo(x + this.desplX);
+    }
+
+    /**
+     * @return La fila que contiene el píxel {@code y} del panel.
+     */
+    private int filaEn(int y) {
+        if (y + this.desplY < 0 || getHeight() == 0)
+            return -1;
+        return filaMundo(y + this.desplY);
+    }
+
+    /**
+     * Cambia el zoom manteniendo fijo el punto del laberinto que está bajo {@code (x, y)}.
+     *
+     * @param x      La coordenada x del punto fijo en el panel.
+     * @param y      La coordenada y del punto fijo en el panel.
+     * @param factor Cuánto se multiplica el zoom actual.
+     */
+    public void ampliar(int x, int y, double factor) {
+        if (getWidth() == 0 || getHeight() == 0)
+            return;
+        // Se puede acercar hasta que las celdas midan LADO_MAXIMO_CELDA píxeles.
+        double maximo = Math.max(1.0, Math.min((double) LADO_MAXIMO_CELDA * this.cols / getWidth(),
+                (double) LADO_MAXIMO_CELDA * this.rows / getHeight()));
+        double nuevo = Math.max(1.0, Math.min(maximo, this.zoom * factor));
+        if (nuevo == this.zoom)
+            return;
+        long anchoAntes = anchoMundo();
+        long altoAntes = altoMundo();
+        this.zoom = nuevo;
+        this.desplX = Math.round((double) (x + this.desplX) * anchoMundo() / anchoAntes - x);
+        this.desplY = Math.round((double) (y + this.desplY) * altoMundo() / altoAntes - y);
+        limitarDesplazamiento();
+        repaint();
+    }
+
+    /**
+     * Desplaza la vista, sin salir del laberinto.
+     *
+     * @param dx Píxeles hacia la derecha.
+     * @param dy Píxeles hacia abajo.
+     */
+    public void desplazar(int dx, int dy) {
+        long x = this.desplX;
+        long y = this.desplY;
+        this.desplX += dx;
+        this.desplY += dy;
+        limitarDesplazamiento();
+        if (x != this.desplX || y != this.desplY)
+            repaint();
+    }
+
+    /**
+     * Vuelve a mostrar todo el laberinto ajustado al panel.
+     */
+    public void restablecerVista() {
+        this.zoom = 1.0;
+        this.desplX = 0;
+        this.desplY = 0;
+        repaint();
+    }
+
+    /**
+     * @return El zoom actual (1 cuando todo el laberinto está visible).
+     */
+    public double getZoom() {
+        return this.zoom;
+    }
+
+    /**
+     * Mantiene la vista dentro del laberinto ampliado.
+     */
+    private void limitarDesplazamiento() {
+        this.desplX = Math.max(0, Math.min(this.desplX, anchoMundo() - getWidth()));
+        this.desplY = Math.max(0, Math.min(this.desplY, altoMundo() - getHeight()));
+    }
+
+    /**
+     * Cambia el color de una celda y repinta solo su rectángulo. Si las celdas son pequeñas, solo
+     * escribe el color y pide un cuadro nuevo si aún no estaba pedido.
+     *
+     * @param paramInt1 La fila de la celda.
+     * @param paramInt2 La columna de la celda.
+     * @param paramColor El nuevo color.
+     */
+    public void pintarCelda(int paramInt1, int paramInt2, Color paramColor) {
+        int i = paramInt1 * this.cols + paramInt2;
+        int rgb = paramColor.getRGB() & 0xFFFFFF;
+        if (this.colores[i] == rgb)
+            return;
+        this.colores[i] = rgb;
+        if (!lineasVisibles()) {
+            // Celdas pequeñas: el próximo cuadro lee el arreglo, basta con pedirlo una vez.
+            if (!this.cuadroPendiente) {
+                this.cuadroPendiente = true;
+                repaint();
+            }
+            return;
+        }
+        int x = xDe(paramInt2);
+        int y = yDe(paramInt1);
+        int ancho = xDe(paramInt2 + 1) - x;
+        int alto = yDe(paramInt1 + 1) - y;
+        if (ancho == 0 || alto == 0)
+            return; // La celda no ocupa ningún píxel con este zoom.
+        if (this.numPendientes == MAX_PENDIENTES) {
+            invalidarTeselas();
+        } else {
+            if (this.numPendientes == this.pendientes.length)
+                this.pendientes = Arrays.copyOf(this.pendientes, this.numPendientes * 2);
+            this.pendientes[this.numPendientes++] = i;
+        }
+        repaint(x, y, ancho, alto);
+    }
+
+    /**
+     * Obtiene el color con que se dibuja una celda.
+     *
+     * @param paramInt1 La fila de la celda.
+     * @param paramInt2 La columna de la celda.
+     * @return Su color actual.
+     */
+    public Color getColorCelda(int paramInt1, int paramInt2) {
+        return new Color(this.colores[paramInt1 * this.cols + paramInt2]);
+    }
+
     /**
      * Limpia el estado visual de las celdas visitadas en el laberinto.
-     * Restablece el estado de las celdas (excepto muros, inicio y fin) a EMPTY y su color a blanco.
+     * Restablece el estado de las celdas (excepto muros, inicio y fin) a EMPTY y su color al de su terreno.
      */
     public void limpiarCeldasVisitadas() {
-        for (byte b = 0; b < this.rows; b++) {
-            for (byte b1 = 0; b1 < this.cols; b1++) {
+        this.animador.cancelar(); // Una animación en curso ya no debe pintar sobre el laberinto limpio.
+        for (int b = 0; b < this.rows; b++) {
+            for (int b1 = 0; b1 < this.cols; b1++) {
                 Cell cell = this.cells[b][b1];
                 // Verifica que la celda no sea un muro, inicio o fin antes de limpiarla.
                 if (cell.state != CellState.WALL && cell.state != CellState.START && cell.state != CellState.END) {
                     cell.state = CellState.EMPTY; // Cambia el estado lógico a EMPTY.
-                    this.buttons[b][b1].setBackground(Color.WHITE); // Cambia el color del botón a blanco.
+                    this.colores[b * this.cols + b1] = colorBase(cell).getRGB() & 0xFFFFFF; // Restaura el color del terreno.
                 }
             }
         }
+        invalidarTeselas();
+        repaint();
+    }
+
+    /**
+     * Carga en el panel los muros y terrenos de un laberinto generado o leído de un archivo.
+     * Todas las celdas quedan como muro o libres; las marcas de inicio y fin las coloca el controlador.
+     *
+     * @param paramMazeGrid El laberinto a cargar; debe tener las mismas dimensiones que el panel.
+     */
+    public void cargarLaberinto(MazeGrid paramMazeGrid) {
+        if (paramMazeGrid.getRows() != this.rows || paramMazeGrid.getCols() != this.cols)
+            throw new IllegalArgumentException("El laberinto no tiene las dimensiones del panel.");
+        this.animador.cancelar();
+        for (int b = 0; b < this.rows; b++) {
+            for (int b1 = 0; b1 < this.cols; b1++) {
+                Cell cell = this.cells[b][b1];
+                int i = this.grid.index(b, b1);
+                boolean muro = paramMazeGrid.isWall(i);
+                cell.state = muro ? CellState.WALL : CellState.EMPTY;
+                cell.terrain = Terrain.fromCost(paramMazeGrid.getCost(i));
+                this.grid.setWall(i, muro);
+                this.grid.setCost(i, cell.terrain.getCost());
+                this.colores[i] = (muro ? Color.BLACK : colorBase(cell)).getRGB() & 0xFFFFFF;
+            }
+        }
+        invalidarTeselas();
+        repaint();
+    }
+
+    /**
+     * Obtiene el color de una celda libre según su terreno o, si la capa de distancias está
+     * visible, según su distancia a la celda final (de rojo, cerca, a violeta, lejos).
+     *
+     * @param paramCell La celda.
+     * @return El color de fondo que le corresponde cuando no está marcada.
+     */
+    public Color colorBase(Cell paramCell) {
+        if (this.campoVisible && this.controller != null && this.controller.getEndCell() != null) {
+            Cell fin = this.controller.getEndCell();
+            if (this.campo.esValido(this.grid, this.grid.index(fin.row, fin.col))) {
+                int d = this.campo.distancia(this.grid.index(paramCell.row, paramCell.col));
+                if (d != DistanceField.INALCANZABLE)
+                    return Color.getHSBColor(0.75f * d / Math.max(1, this.campo.getMaxDistancia()), 0.45f, 1.0f);
+            }
+        }
+        return TERRAIN_COLORS.getOrDefault(paramCell.terrain, Color.WHITE);
+    }
+
+    /**
+     * Muestra u oculta la capa de distancias hasta la celda final.
+     *
+     * @param paramBoolean {@code true} para mostrarla.
+     */
+    public void setCampoVisible(boolean paramBoolean) {
+        this.campoVisible = paramBoolean;
+        if (paramBoolean && this.controller != null && this.controller.getEndCell() != null) {
+            Cell fin = this.controller.getEndCell();
+            this.campo.actualizar(this.grid, this.grid.index(fin.row, fin.col));
+        }
+        repintarCeldasLibres();
+    }
+
+    /**
+     * Recalcula la capa de distancias si el laberinto o la celda final cambiaron desde el último
+     * cálculo, y la vuelve a pintar. No hace nada si la capa está oculta.
+     */
+    public void actualizarCampo() {
+        if (!this.campoVisible || this.controller == null || this.controller.getEndCell() == null)
+            return;
+        Cell fin = this.controller.getEndCell();
+        if (this.campo.actualizar(this.grid, this.grid.index(fin.row, fin.col)))
+            repintarCeldasLibres();
+    }
+
+    /**
+     * Vuelve a pintar con su color base las celdas libres sin marcar.
+     */
+    private void repintarCeldasLibres() {
+        for (int b = 0; b < this.rows; b++) {
+            for (int b1 = 0; b1 < this.cols; b1++) {
+                if (this.cells[b][b1].state == CellState.EMPTY)
+                    this.colores[b * this.cols + b1] = colorBase(this.cells[b][b1]).getRGB() & 0xFFFFFF;
+            }
+        }
+        invalidarTeselas();
+        repaint();
     }
 
     /**
@@ -124,13 +779,20 @@ public class MazePanel extends JPanel {
     }
 
     /**
-     * Obtiene el botón (JButton) en las coordenadas especificadas.
+     * Obtiene el planificador que anima las resoluciones sobre este panel.
+     *
+     * @return El AnimationScheduler del panel.
+     */
+    public AnimationScheduler getAnimador() {
+        return this.animador;
+    }
+
+    /**
+     * Obtiene la cuadrícula compacta del laberinto, enlazada a la matriz de celdas.
      *
-     * @param paramInt1 La coordenada de la fila.
-     * @param paramInt2 La coordenada de la columna.
-     * @return El JButton en la posición especificada.
+     * @return El objeto MazeGrid del panel.
      */
-    public JButton getButton(int paramInt1, int paramInt2) {
-        return this.buttons[paramInt1][paramInt2];
+    public MazeGrid getGrid() {
+        return this.grid;
     }
 }
\ No newline at end of file
@@ -0,0 +1,167 @@
+package ec.edu.ups.Estructura.vista;
+
+import ec.edu.ups.Estructura.dao.AlgorithmResultDAO;
+import ec.edu.ups.Estructura.models.AlgorithmResult;
+import ec.edu.ups.Estructura.models.MazeGrid;
+import ec.edu.ups.Estructura.models.SolveResult;
+import ec.edu.ups.Estructura.solver.MazeSolver;
+import ec.edu.ups.Estructura.solver.SolveSink;
+
+import javax.swing.SwingUtilities;
+import javax.swing.SwingWorker;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * Clase SolveWorker
+ *
+ * Ejecuta un algoritmo fuera del hilo de eventos para que la ventana siga respondiendo mientras
+ * resuelve un laberinto grande. El algoritmo avisa cada celda a un {@link SolveSink} propio que:
+ * <ul>
+ *   <li>guarda los índices visitados y los del camino para armar el {@link SolveResult};</li>
+ *   <li>publica cada {@value #CELDAS_POR_AVISO} celdas cuántas se visitaron, para mostrar el progreso;</li>
+ *   <li>si el trabajo se canceló, lanza en la siguiente celda una {@link CancellationException}
+ *       que interrumpe la búsqueda;</li>
+ *   <li>opcionalmente reenvía cada celda a otro receptor, como la animación en vivo.</li>
+ * </ul>
+ * Si se encuentra un camino, el resultado también se guarda con el DAO desde el hilo de fondo.
+ *
+ * Al terminar, se cancele o no, se llama en el hilo de eventos a la acción indicada con el
+ * resultado ({@code null} si se canceló o falló). Se llama cuando el hilo de fondo ya dejó de leer
+ * la cuadrícula, así que recién entonces es seguro volver a editarla.
+ *
+ * @author Cristian Moscoso
+ */
+public class SolveWorker extends SwingWorker<SolveResult, Integer> {
+    /**
+     * Cada cuántas celdas visitadas se publica el progreso.
+     */
+    public static final int CELDAS_POR_AVISO = 1 << 12;
+
+    private final MazeSolver solver;
+    private final String nombre;
+    private final MazeGrid grid;
+    private final int start;
+    private final int end;
+    private final AlgorithmResultDAO resultDAO;
+    private final SolveSink reenvio;
+    private IntConsumer alProgresar = paramInt -> { };
+    private Consumer<SolveResult> alTerminar = paramSolveResult -> { };
+    private volatile SolveResult resultado;
+    private volatile Throwable error;
+
+    /**
+     * Crea el trabajo; se lanza con {@link #execute()}.
+     *
+     * @param solver    El algoritmo.
+     * @param nombre    El nombre del algoritmo, con el que se guarda el resultado.
+     * @param grid      La cuadrícula, que no debe editarse hasta que el trabajo termine.
+     * @param start     El índice plano de la celda de inicio.
+     * @param end       El índice plano de la celda final.
+     * @param resultDAO Donde se guarda el resultado si se encuentra un camino.
+     * @param reenvio   Un receptor al que se reenvía cada celda mientras se busca, o {@code null}.
+     */
+    public SolveWorker(MazeSolver solver, String nombre, MazeGrid grid, int start, int end,
+                       AlgorithmResultDAO resultDAO, SolveSink reenvio) {
+        this.solver = solver;
+        this.nombre = nombre;
+        this.grid = grid;
+        this.start = start;
+        this.end = end;
+        this.resultDAO = resultDAO;
+        this.reenvio = reenvio;
+    }
+
+    /**
+     * @param paramIntConsumer Recibe en el hilo de eventos el número de celdas visitadas hasta ahora.
+     */
+    public void setAlProgresar(IntConsumer paramIntConsumer) {
+        this.alProgresar = paramIntConsumer;
+    }
+
+    /**
+     * @param paramConsumer Recibe en el hilo de eventos el resultado, o {@code null} si se canceló o falló.
+     */
+    public void setAlTerminar(Consumer<SolveResult> paramConsumer) {
+        this.alTerminar = paramConsumer;
+    }
+
+    /**
+     * @return El error que interrumpió al algoritmo, o {@code null}.
+     */
+    public Throwable getError() {
+        return this.error;
+    }
+
+    @Override
+    protected SolveResult doInBackground() {
+        try {
+            Receptor receptor = new Receptor();
+            long l1 = System.nanoTime();
+            boolean encontrado = this.solver.solve(this.grid, this.start, this.end, receptor);
+            long l2 = System.nanoTime();
+            if (isCancelled())
+                return null;
+            SolveResult solveResult = new SolveResult(this.grid.cellList(receptor.visitadas, receptor.numVisitadas),
+                    this.grid.cellList(receptor.camino, receptor.numCamino));
+            if (encontrado)
+                this.resultDAO.save(new AlgorithmResult(this.nombre, receptor.numCamino, l2 - l1));
+            this.resultado = solveResult;
+            return solveResult;
+        } catch (CancellationException cancellationException) {
+            return null; // El receptor interrumpió la búsqueda.
+        } catch (RuntimeException | StackOverflowError throwable) {
+            this.error = throwable;
+            return null;
+        } finally {
+            SwingUtilities.invokeLater(() -> this.alTerminar.accept(isCancelled() ? null : this.resultado));
+        }
+    }
+
+    @Override
+    protected void process(List<Integer> paramList) {
+        this.alProgresar.accept(paramList.get(paramList.size() - 1));
+    }
+
+    /**
+     * Receptor de las celdas del algoritmo, en el hilo de fondo.
+     */
+    private final class Receptor implements SolveSink {
+        private int[] visitadas = new int[64];
+        private int numVisitadas;
+        private int[] camino = new int[16];
+        private int numCamino;
+
+        @Override
+        public void celdaVisitada(int celda) {
+            if (isCancelled())
+                throw new CancellationException();
+            if (this.numVisitadas % CELDAS_POR_AVISO == 0)
+                publish(this.numVisitadas);
+            if (this.numVisitadas == this.visitadas.length)
+                this.visitadas = Arrays.copyOf(this.visitadas, this.numVisitadas * 2);
+            this.visitadas[this.numVisitadas++] = celda;
+            if (SolveWorker.this.reenvio != null)
+                SolveWorker.this.reenvio.celdaVisitada(celda);
+        }
+
+        @Override
+        public void celdaDelCamino(int celda) {
+            if (this.numCamino == this.camino.length)
+                this.camino = Arrays.copyOf(this.camino, this.numCamino * 2);
+            this.camino[this.numCamino++] = celda;
+            if (SolveWorker.this.reenvio != null)
+                SolveWorker.this.reenvio.celdaDelCamino(celda);
+        }
+
+        @Override
+        public void finalizado(boolean encontrado) {
+            publish(this.numVisitadas);
+            if (SolveWorker.this.reenvio != null)
+                SolveWorker.this.reenvio.finalizado(encontrado);
+        }
+    }
+}